@@ -0,0 +1,52 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+
+// 컨슈머가 받는 같은 수업 신청을 bin1 과 JSON 으로 읽는 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoursePayloadDecodeBenchmark {
+
+    // 컨슈머와 같이 미리 만들어 둔 ObjectMapper 재사용
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String bin1;
+    private String json;
+
+    @Setup
+    public void setUp() throws Exception {
+        UpsertCourseRequest upsertCourseRequest = new UpsertCourseRequest();
+        upsertCourseRequest.setMondayClassHour(1);
+        upsertCourseRequest.setTuesdayClassHour(2);
+        upsertCourseRequest.setWednesdayClassHour(3);
+        upsertCourseRequest.setThursdayClassHour(4);
+        upsertCourseRequest.setFridayClassHour(5);
+
+        CourseCreatedEventPayload payload = new CourseCreatedEventPayload(
+                new StudentInfo("teacher_001", "Mr.Kim", "student_001", "Alice_Kim"), upsertCourseRequest);
+
+        bin1 = CoursePayloadCodec.encode(payload);
+        json = objectMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public CourseRequestMessage decodeBin1() {
+        return CoursePayloadCodec.decode(bin1);
+    }
+
+    @Benchmark
+    public CourseRequestMessage decodeJson() throws Exception {
+        return objectMapper.readValue(json, CourseRequestMessage.class);
+    }
+}
@@ -0,0 +1,186 @@
+package com.scheduler.courseservice.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.scheduler.courseservice.infra.config.redis.CacheInvalidationBus;
+import com.scheduler.courseservice.infra.security.jwt.component.JwtUtils;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.TeacherInfo;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// 토큰 subject 별 회원 조회 결과 캐시. 만료는 JWT exp 를 넘지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberInfoCache implements CacheInvalidationBus.LocalInvalidationListener {
+
+    public static final String CACHE_NAME = "memberInfo";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Value("${course.member-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${course.member-cache.maximum-size:50000}")
+    private long maximumSize;
+
+    @Value("${course.member-cache.max-ttl-seconds:300}")
+    private long maxTtlSeconds;
+
+    private final MemberServiceClient memberServiceClient;
+    private final JwtUtils jwtUtils;
+    private final CacheInvalidationBus invalidationBus;
+
+    private Cache<String, CachedMember> cache;
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedMember {
+        private final Object info;
+        private final Set<String> memberIds;
+        private final long ttlNanos;
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedMember>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedMember value, long currentTime) {
+                        return value.getTtlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedMember value, long currentTime, long currentDuration) {
+                        return value.getTtlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedMember value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        invalidationBus.register(CACHE_NAME, this);
+    }
+
+    public StudentInfo findStudentInfo(String token) {
+        return find("student", token, StudentInfo.class,
+                () -> memberServiceClient.findStudentInfoByToken(token));
+    }
+
+    public TeacherInfo findTeacherInfo(String token) {
+        return find("teacher", token, TeacherInfo.class,
+                () -> memberServiceClient.findTeacherInfoByToken(token));
+    }
+
+    // 이름 변경 등 회원 정보가 바뀌면 모든 인스턴스에서 해당 회원 항목 삭제
+    public void evictMember(String memberId) {
+        evictLocal(memberId);
+        invalidationBus.publishEvict(CACHE_NAME, memberId);
+    }
+
+    @Override
+    public void evictLocal(String memberId) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(cached -> cached.getMemberIds().contains(memberId));
+        }
+    }
+
+    @Override
+    public void clearLocal() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private <T> T find(String role, String token, Class<T> type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        // 파싱할 수 없는 토큰은 캐시 없이 회원 서비스 판단에 맡김
+        Claims claims = parseClaims(token);
+        if (claims == null || claims.getSubject() == null) {
+            return loader.get();
+        }
+
+        long ttlNanos = ttlNanos(claims);
+        if (ttlNanos <= 0) {
+            return loader.get();
+        }
+
+        CachedMember cached = cache.get(role + ":" + hash(claims.getSubject()), key -> {
+            T info = loader.get();
+            return info == null ? null : new CachedMember(info, memberIds(info), ttlNanos);
+        });
+
+        return cached == null ? null : type.cast(cached.getInfo());
+    }
+
+    private Claims parseClaims(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        String rawToken = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()).trim() : token;
+
+        try {
+            return jwtUtils.getPayload(rawToken);
+        } catch (Exception e) {
+            log.debug("회원 캐시 토큰 파싱 실패. reason = {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long ttlNanos(Claims claims) {
+        long ttlMillis = maxTtlSeconds * 1000;
+
+        if (claims.getExpiration() != null) {
+            ttlMillis = Math.min(ttlMillis, claims.getExpiration().getTime() - System.currentTimeMillis());
+        }
+        return MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    private static Set<String> memberIds(Object info) {
+        Set<String> memberIds = new HashSet<>();
+
+        if (info instanceof StudentInfo studentInfo) {
+            memberIds.add(studentInfo.getStudentId());
+            memberIds.add(studentInfo.getTeacherId());
+        } else if (info instanceof TeacherInfo teacherInfo) {
+            memberIds.add(teacherInfo.getTeacherId());
+        }
+
+        memberIds.remove(null);
+        return memberIds;
+    }
+
+    private static String hash(String subject) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(subject.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,18 +1,16 @@
 package com.scheduler.courseservice.client.service;
 
 import com.scheduler.courseservice.course.component.DateProvider;
-import com.scheduler.courseservice.course.domain.CourseSchedule;
 import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.course.service.ScheduleSlotIndex;
+import com.scheduler.courseservice.course.service.WeeklySlotSnapshot;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.Map;
 
-import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
 import static com.scheduler.courseservice.course.dto.FeignMemberRequest.CourseExistenceResponse;
 import static com.scheduler.courseservice.course.dto.FeignMemberRequest.CourseReassignmentResponse;
 
@@ -20,8 +18,10 @@ import static com.scheduler.courseservice.course.dto.FeignMemberRequest.CourseRe
 @RequiredArgsConstructor
 public class FeignCourseServiceImpl implements FeignCourseService {
 
+    private static final String[] DAY_NAMES = {"월요일", "화요일", "수요일", "목요일", "금요일"};
+
     private final DateProvider dateProvider;
-    private final RedissonClient redissonClient;
+    private final WeeklySlotSnapshot weeklySlotSnapshot;
 
     private final CourseJpaRepository courseJpaRepository;
 
@@ -32,67 +32,35 @@ public class FeignCourseServiceImpl implements FeignCourseService {
         int currentYear = dateProvider.getCurrentYear();
         int currentWeek = dateProvider.getCurrentWeek();
 
-        String cacheKey = "courseSchedules:" + currentYear + ":" + currentWeek;
-        RBucket<List<CourseSchedule>> bucket = redissonClient.getBucket(cacheKey);
-
-        List<CourseSchedule> redisScheduleList = bucket.get();
-        if (redisScheduleList == null) {
-            redisScheduleList = courseJpaRepository.findAllByCourseYearAndWeekOfYear(currentYear, currentWeek);
-            bucket.set(redisScheduleList);
-        }
+        // 교사 주간 점유 현황과 학생 한 명의 수업만 조회
+        Map<String, Integer> teacherCourses = weeklySlotSnapshot.findTeacherWeek(teacherId, currentYear, currentWeek);
 
-        // 교사 주간 수업 조회
-        List<StudentCourseResponse> teacherCourses = redisScheduleList.stream()
-                .filter(schedule -> schedule.getTeacherId().equals(teacherId))
-                .map(this::mapToStudentCourseResponse)
-                .collect(Collectors.toList());
-
-        // 학생 주간 수업 조회
-        StudentCourseResponse studentCourses = redisScheduleList.stream()
-                .filter(schedule -> schedule.getStudentId().equals(studentId))
-                .findFirst()
-                .map(this::mapToStudentCourseResponse)
+        int[] studentHours = courseJpaRepository
+                .findCourseScheduleByStudentIdAndCourseYearAndWeekOfYear(studentId, currentYear, currentWeek)
+                .map(ScheduleSlotIndex::hoursOf)
                 .orElse(null);
 
-        if (teacherCourses.isEmpty() || studentCourses == null) {
+        if (teacherCourses.isEmpty() || studentHours == null) {
             throw new IllegalArgumentException("주간 수업 데이터를 찾을 수 없습니다.");
         }
 
-        classValidator(teacherCourses, studentCourses);
+        classValidator(teacherCourses.values(), studentHours);
 
         return new CourseReassignmentResponse(true);
     }
 
-    private StudentCourseResponse mapToStudentCourseResponse(CourseSchedule schedule) {
-        return new StudentCourseResponse(
-                schedule.getStudentId(),
-                schedule.getFridayClassHour(),
-                schedule.getMondayClassHour(),
-                schedule.getTuesdayClassHour(),
-                schedule.getWednesdayClassHour(),
-                schedule.getThursdayClassHour()
-        );
-    }
-
-    private void classValidator(
-            List<StudentCourseResponse> weekCourseByTeacherId,
-            StudentCourseResponse weeklyCoursesByStudentId
-    ) {
-        if (weeklyCoursesByStudentId == null) {
-            throw new IllegalArgumentException("학생의 주간 수업 데이터가 존재하지 않습니다.");
-        }
+    private void classValidator(Collection<Integer> weekCourseByTeacherId, int[] weeklyCoursesByStudentId) {
+        for (Integer teacherCourse : weekCourseByTeacherId) {
+            int[] teacherHours = ScheduleSlotIndex.unpack(teacherCourse);
 
-        for (StudentCourseResponse teacherCourse : weekCourseByTeacherId) {
-            checkConflict("월요일", teacherCourse.getMondayClassHour(), weeklyCoursesByStudentId.getMondayClassHour());
-            checkConflict("화요일", teacherCourse.getTuesdayClassHour(), weeklyCoursesByStudentId.getTuesdayClassHour());
-            checkConflict("수요일", teacherCourse.getWednesdayClassHour(), weeklyCoursesByStudentId.getWednesdayClassHour());
-            checkConflict("목요일", teacherCourse.getThursdayClassHour(), weeklyCoursesByStudentId.getThursdayClassHour());
-            checkConflict("금요일", teacherCourse.getFridayClassHour(), weeklyCoursesByStudentId.getFridayClassHour());
+            for (int day = 0; day < DAY_NAMES.length; day++) {
+                checkConflict(DAY_NAMES[day], teacherHours[day], weeklyCoursesByStudentId[day]);
+            }
         }
     }
 
-    private void checkConflict(String day, Integer teacherClass, Integer studentClass) {
-        if (teacherClass != null && teacherClass.equals(studentClass)) {
+    private void checkConflict(String day, int teacherClass, int studentClass) {
+        if (teacherClass != 0 && teacherClass == studentClass) {
             throw new IllegalArgumentException("학생의 " + day + " 수업 중에 겹치는 날이 있습니다.");
         }
     }
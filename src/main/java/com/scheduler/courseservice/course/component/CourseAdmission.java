@@ -0,0 +1,152 @@
+package com.scheduler.courseservice.course.component;
+
+import com.scheduler.courseservice.course.service.SlotReservationService;
+import com.scheduler.courseservice.infra.exception.custom.CourseOverloadedException;
+import com.scheduler.courseservice.outbox.service.OutBoxBacklogMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.kafka.clients.admin.AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG;
+
+// 수업 신청 수락 여부. 컨슈머 lag 이나 outbox 적체가 기준을 넘으면 429 로 거절해 대기열이 끝없이 늘지 않게 함
+// 이미 같은 시간으로 선점된 재제출은 새 작업이 아니므로 거절하지 않고, 선점과 outbox 저장도 건너뛰게 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseAdmission {
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 3;
+    private static final String ADMISSION_METRIC = "course.admission";
+
+    @Value("${course.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${course.admission.max-consumer-lag:10000}")
+    private long maxConsumerLag;
+
+    @Value("${course.admission.max-outbox-backlog:5000}")
+    private long maxOutboxBacklog;
+
+    // 기준을 넘은 정도에 비례해 늘리고 max 에서 멈춤
+    @Value("${course.admission.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    @Value("${course.admission.max-retry-after-seconds:30}")
+    private long maxRetryAfterSeconds;
+
+    @Value("${spring.kafka.topics.course.apply}")
+    private String courseApplyTopic;
+
+    @Value("${spring.kafka.topics.course.group-id}")
+    private String groupId;
+
+    private final AtomicLong consumerLag = new AtomicLong();
+    private AdminClient adminClient;
+
+    private final KafkaProperties kafkaProperties;
+    private final OutBoxBacklogMonitor outBoxBacklogMonitor;
+    private final SlotReservationService slotReservationService;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildAdminProperties(null));
+        props.put(BOOTSTRAP_SERVERS_CONFIG, Objects.requireNonNullElse(
+                kafkaProperties.getConsumer().getBootstrapServers(), kafkaProperties.getBootstrapServers()));
+        adminClient = AdminClient.create(props);
+
+        Gauge.builder("course.consumer.lag", consumerLag, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    // 새로 처리할 신청이면 true, 과부하 중 이미 선점된 재제출이라 할 일이 없으면 false
+    public boolean admit(CourseRequestMessage courseMessage) {
+        if (!enabled) {
+            return true;
+        }
+
+        double load = Math.max(
+                (double) consumerLag.get() / maxConsumerLag,
+                (double) outBoxBacklogMonitor.getBacklog() / maxOutboxBacklog
+        );
+        if (load < 1) {
+            return true;
+        }
+
+        if (slotReservationService.holds(courseMessage)) {
+            meterRegistry.counter(ADMISSION_METRIC, "result", "resubmit").increment();
+            return false;
+        }
+
+        meterRegistry.counter(ADMISSION_METRIC, "result", "rejected").increment();
+        throw new CourseOverloadedException(
+                Math.min(maxRetryAfterSeconds, (long) Math.ceil(retryAfterSeconds * load)));
+    }
+
+    // 조회에 실패하면 마지막 값을 유지
+    @Scheduled(fixedDelayString = "${course.admission.refresh-millis:5000}")
+    public void refreshConsumerLag() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = adminClient.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(ADMIN_TIMEOUT_SECONDS, SECONDS)
+                    .entrySet().stream()
+                    .filter(entry -> entry.getKey().topic().equals(courseApplyTopic) && entry.getValue() != null)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            if (committed.isEmpty()) {
+                consumerLag.set(0);
+                return;
+            }
+
+            Map<TopicPartition, ListOffsetsResultInfo> latest = adminClient.listOffsets(committed.keySet().stream()
+                            .collect(Collectors.toMap(partition -> partition, partition -> OffsetSpec.latest())))
+                    .all()
+                    .get(ADMIN_TIMEOUT_SECONDS, SECONDS);
+
+            consumerLag.set(committed.entrySet().stream()
+                    .mapToLong(entry -> Math.max(0, latest.get(entry.getKey()).offset() - entry.getValue().offset()))
+                    .sum());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("컨슈머 lag 조회 실패. groupId = {}, reason = {}", groupId, e.getMessage());
+        }
+    }
+}
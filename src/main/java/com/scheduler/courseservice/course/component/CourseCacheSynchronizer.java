@@ -0,0 +1,132 @@
+package com.scheduler.courseservice.course.component;
+
+import com.scheduler.courseservice.course.domain.CourseNameChangedEvent;
+import com.scheduler.courseservice.course.domain.CourseScheduleChangedEvent;
+import com.scheduler.courseservice.course.domain.TeacherNameChangedEvent;
+import com.scheduler.courseservice.course.repository.CourseCacheKeys;
+import com.scheduler.courseservice.course.service.WeeklySlotSnapshot;
+import com.scheduler.courseservice.infra.config.redis.TwoLevelCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseWeekKey;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+// 수업 저장이 커밋된 뒤 해당 학생, 교사의 주차 캐시와 주간 점유 현황만 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCacheSynchronizer {
+
+    private final CacheManager courseCacheManager;
+    private final WeeklySlotSnapshot weeklySlotSnapshot;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onScheduleChanged(CourseScheduleChangedEvent event) {
+        try {
+            // 학생 캐시는 커밋된 값으로 바로 덮어씀
+            Cache studentCache = courseCacheManager.getCache(CourseCacheKeys.STUDENT_CACHE);
+            if (studentCache != null) {
+                studentCache.put(
+                        CourseCacheKeys.student(event.getStudentId(), event.getTeacherId(),
+                                event.getCourseYear(), event.getWeekOfYear()),
+                        event.getStudentCourse()
+                );
+            }
+
+            // 교사 캐시는 다른 학생 수업까지 담긴 목록이므로 삭제 후 다음 조회에서 적재
+            Cache teacherCache = courseCacheManager.getCache(CourseCacheKeys.TEACHER_CACHE);
+            if (teacherCache != null) {
+                teacherCache.evict(
+                        CourseCacheKeys.teacher(event.getTeacherId(), event.getCourseYear(), event.getWeekOfYear())
+                );
+            }
+
+            // 다른 교사로 옮겼으면 이전 교사 기준 키도 삭제
+            String previousTeacherId = event.getPreviousTeacherId();
+            if (previousTeacherId != null) {
+                if (studentCache != null) {
+                    studentCache.evict(CourseCacheKeys.student(event.getStudentId(), previousTeacherId,
+                            event.getCourseYear(), event.getWeekOfYear()));
+                }
+                if (teacherCache != null) {
+                    teacherCache.evict(
+                            CourseCacheKeys.teacher(previousTeacherId, event.getCourseYear(), event.getWeekOfYear()));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("수업 캐시 갱신 실패. studentId = {}, teacherId = {}, reason = {}",
+                    event.getStudentId(), event.getTeacherId(), e.getMessage());
+        }
+
+        // 교사 락 안에서 커밋 직후 실행되므로 다음 배치는 갱신된 값을 읽음
+        if (event.getPreviousTeacherId() != null) {
+            weeklySlotSnapshot.remove(
+                    event.getPreviousTeacherId(), event.getCourseYear(), event.getWeekOfYear(), event.getStudentId());
+        }
+
+        StudentCourseResponse course = event.getStudentCourse();
+        weeklySlotSnapshot.update(
+                event.getTeacherId(), event.getCourseYear(), event.getWeekOfYear(), event.getStudentId(),
+                new int[]{
+                        course.getMondayClassHour(), course.getTuesdayClassHour(), course.getWednesdayClassHour(),
+                        course.getThursdayClassHour(), course.getFridayClassHour()
+                }
+        );
+    }
+
+    // 이름은 학생, 교사 캐시 모두에 담기므로 해당 주차 키를 삭제
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onNameChanged(CourseNameChangedEvent event) {
+        Cache studentCache = courseCacheManager.getCache(CourseCacheKeys.STUDENT_CACHE);
+        Cache teacherCache = courseCacheManager.getCache(CourseCacheKeys.TEACHER_CACHE);
+
+        Set<String> evictedTeacherKeys = new HashSet<>();
+
+        for (CourseWeekKey courseWeek : event.getCourseWeeks()) {
+            try {
+                if (studentCache != null) {
+                    studentCache.evict(CourseCacheKeys.student(courseWeek.getStudentId(), courseWeek.getTeacherId(),
+                            courseWeek.getCourseYear(), courseWeek.getWeekOfYear()));
+                }
+
+                String teacherKey = CourseCacheKeys.teacher(
+                        courseWeek.getTeacherId(), courseWeek.getCourseYear(), courseWeek.getWeekOfYear());
+                if (teacherCache != null && evictedTeacherKeys.add(teacherKey)) {
+                    teacherCache.evict(teacherKey);
+                }
+            } catch (Exception e) {
+                log.warn("수업 캐시 삭제 실패. studentId = {}, teacherId = {}, reason = {}",
+                        courseWeek.getStudentId(), courseWeek.getTeacherId(), e.getMessage());
+            }
+        }
+    }
+
+    // 교사 이름은 교사의 모든 주차, 모든 학생 캐시에 담기므로 키 패턴으로 삭제
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onTeacherNameChanged(TeacherNameChangedEvent event) {
+        Cache teacherCache = courseCacheManager.getCache(CourseCacheKeys.TEACHER_CACHE);
+        Cache studentCache = courseCacheManager.getCache(CourseCacheKeys.STUDENT_CACHE);
+
+        for (String teacherId : event.getTeacherIds()) {
+            try {
+                if (teacherCache instanceof TwoLevelCache cache) {
+                    cache.evictMatching(CourseCacheKeys.teacherPattern(teacherId));
+                }
+                if (studentCache instanceof TwoLevelCache cache) {
+                    cache.evictMatching(CourseCacheKeys.studentsOfTeacherPattern(teacherId));
+                }
+            } catch (Exception e) {
+                log.warn("교사 수업 캐시 삭제 실패. teacherId = {}, reason = {}", teacherId, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.scheduler.courseservice.course.component;
 
+import com.scheduler.courseservice.course.repository.CourseNameSearchIndex;
 import com.scheduler.courseservice.course.repository.CourseRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class RedisCourse {
 
     private final CourseRepository courseRepository;
     private final RedissonClient redissonClient;
+    private final CourseNameSearchIndex courseNameSearchIndex;
 
     private static final String TEACHER_CACHE_NAME = "teacherCourses";
     private static final String STUDENT_CACHE_NAME = "studentCourses";
@@ -58,6 +60,12 @@ public class RedisCourse {
             redisTemplate.delete(redisTemplate.keys(TEACHER_CACHE_NAME + "*"));
             redisTemplate.delete(redisTemplate.keys(STUDENT_CACHE_NAME + "*"));
 
+            // 이름 검색 색인도 함께 재구성
+            courseNameSearchIndex.rebuild(
+                    courseRepository.findAllStudentNames(),
+                    courseRepository.findAllTeacherNames()
+            );
+
             List<StudentCourseResponse> allCourses = courseRepository.findAllSchedule();
 
             if (allCourses.isEmpty()) {
@@ -0,0 +1,106 @@
+package com.scheduler.courseservice.course.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// 교사 단위 직렬화 락.
+// distributed: Redisson 분산 락
+// partition: 메시지 키가 teacherId 이므로 파티션 소유 컨슈머가 곧 단일 작성자. 인스턴스 내부 스트라이프 락만 사용
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeacherLock {
+
+    public enum Mode {
+        DISTRIBUTED, PARTITION
+    }
+
+    private static final int STRIPES = 64;
+    private static final long WAIT_SECONDS = 5;
+
+    private static final String WAIT_METRIC = "course.lock.wait";
+    private static final String HOLD_METRIC = "course.lock.hold";
+
+    @Value("${course.consumer.lock-mode:distributed}")
+    private String lockMode;
+
+    // 교사별 태그. 교사 수만큼 시계열이 늘어나므로 교사가 적은 환경에서 조사할 때만 켬
+    @Value("${course.metrics.lock-per-teacher:false}")
+    private boolean perTeacherMetrics;
+
+    private Mode mode;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    public interface Handle extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    @PostConstruct
+    public void init() {
+        mode = Mode.valueOf(lockMode.trim().toUpperCase(Locale.ROOT));
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        log.info("교사 락 모드 = {}", mode);
+    }
+
+    // 대기 시간은 획득 여부별로, 점유 시간은 해제 시 기록
+    public Handle acquire(String teacherId) throws InterruptedException {
+        String teacherTag = perTeacherMetrics ? teacherId : "all";
+        Timer.Sample wait = Timer.start(meterRegistry);
+
+        Handle handle;
+        try {
+            handle = mode == Mode.PARTITION ? acquireLocal(teacherId) : acquireDistributed(teacherId);
+        } catch (InterruptedException | RuntimeException e) {
+            wait.stop(meterRegistry.timer(WAIT_METRIC, "teacher", teacherTag, "result", "failed"));
+            throw e;
+        }
+        wait.stop(meterRegistry.timer(WAIT_METRIC, "teacher", teacherTag, "result", "acquired"));
+
+        Timer.Sample hold = Timer.start(meterRegistry);
+        return () -> {
+            try {
+                handle.close();
+            } finally {
+                hold.stop(meterRegistry.timer(HOLD_METRIC, "teacher", teacherTag));
+            }
+        };
+    }
+
+    private Handle acquireDistributed(String teacherId) throws InterruptedException {
+        String lockKey = "courseLock:" + teacherId;
+        RLock lock = redissonClient.getLock(lockKey);
+
+        if (!lock.tryLock(WAIT_SECONDS, SECONDS)) {
+            log.warn("Skipping processing for teacherId {} as it's locked.", teacherId);
+            throw new RuntimeException("Lock acquisition failed for key: " + lockKey);
+        }
+        return lock::unlock;
+    }
+
+    private Handle acquireLocal(String teacherId) throws InterruptedException {
+        ReentrantLock lock = stripes[Math.floorMod(teacherId.hashCode(), STRIPES)];
+
+        if (!lock.tryLock(WAIT_SECONDS, SECONDS)) {
+            throw new RuntimeException("Local lock acquisition failed for teacherId: " + teacherId);
+        }
+        return lock::unlock;
+    }
+}
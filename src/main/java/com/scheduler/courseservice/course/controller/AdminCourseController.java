@@ -2,6 +2,8 @@ package com.scheduler.courseservice.course.controller;
 
 import com.scheduler.courseservice.course.service.CourseQueryService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseSlice;
 import static org.springframework.http.HttpStatus.OK;
 
 @RestController
@@ -18,6 +21,8 @@ import static org.springframework.http.HttpStatus.OK;
 @RequiredArgsConstructor
 public class AdminCourseController {
 
+    private static final int MAX_SEEK_SIZE = 100;
+
     private final CourseQueryService courseQueryService;
 
     @Operation(
@@ -32,4 +37,19 @@ public class AdminCourseController {
     ) {
         return new ResponseEntity<>(courseQueryService.findAllStudentsCourses(page, size, keyword), OK);
     }
+
+    @Operation(
+            summary = "관리자 수업 커서 조회",
+            description = "최근 주차부터 커서 기반으로 조회. cursor -> 이전 응답의 nextCursor, size -> 1 ~ 100, withTotal -> 전체 개수 포함 여부"
+    )
+    @GetMapping("class/seek")
+    public ResponseEntity<StudentCourseSlice> findAllStudentsCoursesBySeek(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_SEEK_SIZE) int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return new ResponseEntity<>(courseQueryService
+                .findAllStudentsCoursesBySeek(cursor, size, keyword, withTotal), OK);
+    }
 }
@@ -0,0 +1,16 @@
+package com.scheduler.courseservice.course.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseWeekKey;
+
+// 이름이 바뀐 수업의 교사, 주차. 커밋 후 해당 캐시 키만 삭제
+@Getter
+@RequiredArgsConstructor
+public class CourseNameChangedEvent {
+
+    private final List<CourseWeekKey> courseWeeks;
+}
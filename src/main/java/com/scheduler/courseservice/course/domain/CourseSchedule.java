@@ -1,5 +1,6 @@
 package com.scheduler.courseservice.course.domain;
 
+import com.scheduler.courseservice.infra.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,7 +11,6 @@ import java.time.temporal.WeekFields;
 import java.util.Locale;
 
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
-import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -25,12 +25,13 @@ import static lombok.AccessLevel.PROTECTED;
         indexes = {
         @Index(name = "idx_course_year", columnList = "courseYear"),
         @Index(name = "idx_week_of_year", columnList = "weekOfYear"),
-        @Index(name = "idx_year_week", columnList = "courseYear, weekOfYear")
+        @Index(name = "idx_year_week", columnList = "courseYear, weekOfYear"),
+        @Index(name = "idx_teacher_year_week", columnList = "teacherId, courseYear, weekOfYear")
 })
 public class CourseSchedule extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,55 @@
+package com.scheduler.courseservice.course.domain;
+
+import lombok.Getter;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+
+@Getter
+public class CourseScheduleChangedEvent {
+
+    private String studentId;
+    private String teacherId;
+    private Integer courseYear;
+    private Integer weekOfYear;
+
+    // 같은 주차에 다른 교사로 옮겼으면 이전 교사. 이전 교사의 캐시와 점유 현황에서 학생을 제거
+    private String previousTeacherId;
+
+    // 커밋 시점의 학생 수업 정보
+    private StudentCourseResponse studentCourse;
+
+    public static CourseScheduleChangedEvent of(CourseRequestMessage courseMessage, int courseYear, int weekOfYear) {
+        return of(courseMessage, courseYear, weekOfYear, null);
+    }
+
+    public static CourseScheduleChangedEvent of(
+            CourseRequestMessage courseMessage, int courseYear, int weekOfYear, String previousTeacherId
+    ) {
+        StudentCourseResponse studentCourse = new StudentCourseResponse();
+        studentCourse.setStudentId(courseMessage.getStudentId());
+        studentCourse.setStudentName(courseMessage.getStudentName());
+        studentCourse.setTeacherId(courseMessage.getTeacherId());
+        studentCourse.setTeacherName(courseMessage.getTeacherName());
+        studentCourse.setMondayClassHour(orZero(courseMessage.getMondayClassHour()));
+        studentCourse.setTuesdayClassHour(orZero(courseMessage.getTuesdayClassHour()));
+        studentCourse.setWednesdayClassHour(orZero(courseMessage.getWednesdayClassHour()));
+        studentCourse.setThursdayClassHour(orZero(courseMessage.getThursdayClassHour()));
+        studentCourse.setFridayClassHour(orZero(courseMessage.getFridayClassHour()));
+        studentCourse.setCourseYear(courseYear);
+        studentCourse.setWeekOfYear(weekOfYear);
+
+        CourseScheduleChangedEvent event = new CourseScheduleChangedEvent();
+        event.studentId = courseMessage.getStudentId();
+        event.teacherId = courseMessage.getTeacherId();
+        event.courseYear = courseYear;
+        event.weekOfYear = weekOfYear;
+        event.previousTeacherId = previousTeacherId;
+        event.studentCourse = studentCourse;
+        return event;
+    }
+
+    private static Integer orZero(Integer classHour) {
+        return classHour == null ? 0 : classHour;
+    }
+}
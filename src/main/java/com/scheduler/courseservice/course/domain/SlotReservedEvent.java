@@ -0,0 +1,16 @@
+package com.scheduler.courseservice.course.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+
+// 신청 시점에 선점한 시간. 신청 트랜잭션이 롤백되면 선점을 풂
+@Getter
+@RequiredArgsConstructor
+public class SlotReservedEvent {
+
+    private final CourseRequestMessage courseMessage;
+    private final int courseYear;
+    private final int weekOfYear;
+}
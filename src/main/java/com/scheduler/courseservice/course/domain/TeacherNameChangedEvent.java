@@ -0,0 +1,14 @@
+package com.scheduler.courseservice.course.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 이름이 바뀐 교사. 커밋 후 교사, 학생 캐시를 교사 키 패턴으로 삭제
+@Getter
+@RequiredArgsConstructor
+public class TeacherNameChangedEvent {
+
+    private final List<String> teacherIds;
+}
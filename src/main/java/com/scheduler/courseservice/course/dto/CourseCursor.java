@@ -0,0 +1,41 @@
+package com.scheduler.courseservice.course.dto;
+
+import com.scheduler.courseservice.infra.exception.custom.InvalidCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// (courseYear, weekOfYear, id) 기준 keyset 커서. 외부에는 불투명한 문자열로만 노출
+@Getter
+@RequiredArgsConstructor
+public class CourseCursor {
+
+    private final int courseYear;
+    private final int weekOfYear;
+    private final long id;
+
+    public String encode() {
+        String raw = courseYear + ":" + weekOfYear + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    public static CourseCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+            return new CourseCursor(
+                    Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -66,6 +66,51 @@ public class CourseInfoResponse {
         }
     }
 
+    @Getter
+    @Setter
+    public static class StudentCourseSlice {
+
+        private List<StudentCourseResponse> contents = new ArrayList<>();
+        private String nextCursor;
+        private boolean hasNext;
+
+        // withTotal 요청 시에만 채움
+        private Long totalCount;
+
+        public StudentCourseSlice() {
+        }
+
+        public StudentCourseSlice(
+                List<StudentCourseResponse> contents, String nextCursor, boolean hasNext, Long totalCount
+        ) {
+            this.contents = contents;
+            this.nextCursor = nextCursor;
+            this.hasNext = hasNext;
+            this.totalCount = totalCount;
+        }
+    }
+
+    // 캐시 키를 만들기 위한 학생 수업의 교사, 주차
+    @Getter
+    @Setter
+    public static class CourseWeekKey {
+
+        private String studentId;
+        private String teacherId;
+        private Integer courseYear;
+        private Integer weekOfYear;
+
+        public CourseWeekKey() {
+        }
+
+        public CourseWeekKey(String studentId, String teacherId, Integer courseYear, Integer weekOfYear) {
+            this.studentId = studentId;
+            this.teacherId = teacherId;
+            this.courseYear = courseYear;
+            this.weekOfYear = weekOfYear;
+        }
+    }
+
     @Getter
     @Setter
     public static class CourseList {
@@ -0,0 +1,64 @@
+package com.scheduler.courseservice.course.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.scheduler.courseservice.course.service.CourseService;
+import com.scheduler.courseservice.infra.config.messaging.RabbitTeacherNameProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.scheduler.courseservice.course.messaging.RabbitMQDto.ChangeMemberNameDto;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RabbitTeacherNameEventListener {
+
+    private final CourseService courseService;
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitTeacherNameProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(
+            queues = "${spring.rabbitmq.teacher-name.queue.name}",
+            containerFactory = "rabbitBatchListenerContainerFactory"
+    )
+    public void receiveMessages(List<Message> messages, Channel channel) throws IOException {
+
+        long lastTag = messages.get(messages.size() - 1).getMessageProperties().getDeliveryTag();
+
+        List<ChangeMemberNameDto> changeMemberNameDtos = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                changeMemberNameDtos.add(objectMapper.readValue(message.getBody(), ChangeMemberNameDto.class));
+            } catch (IOException e) {
+                log.warn("Invalid message : message = {}, errorMessage = {}", new String(message.getBody()), e.getMessage());
+            }
+        }
+
+        try {
+            courseService.changeTeacherNames(changeMemberNameDtos);
+            channel.basicAck(lastTag, true);
+        } catch (RuntimeException e) {
+            log.error("교사 이름 변경 배치 실패. size = {}", changeMemberNameDtos.size(), e);
+
+            // 재전달해도 같은 이유로 실패하므로 DLQ 로 보내고 보상 메시지 발행
+            channel.basicNack(lastTag, true, false);
+
+            for (ChangeMemberNameDto changeMemberNameDto : changeMemberNameDtos) {
+                rabbitTemplate.convertAndSend(
+                        properties.getExchange().getCompensation(),
+                        properties.getRouting().getCompensation(),
+                        changeMemberNameDto);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.scheduler.courseservice.course.repository;
+
+// 수업 조회 캐시 이름과 키. @Cacheable SpEL 과 캐시 동기화가 같은 키를 쓰도록 한 곳에서 관리
+public final class CourseCacheKeys {
+
+    public static final String TEACHER_CACHE = "teacherCourses";
+    public static final String STUDENT_CACHE = "studentCourses";
+
+    private CourseCacheKeys() {
+    }
+
+    public static String teacher(String teacherId, Integer year, Integer weekOfYear) {
+        return "teacherCourses:teacherId:" + teacherId + ":year:" + year + ":weekOfYear:" + weekOfYear;
+    }
+
+    public static String student(String studentId, String teacherId, Integer year, Integer weekOfYear) {
+        return "studentCourses:studentId:" + studentId + "teacherId:" + teacherId + ":year:" + year + ":weekOfYear:" + weekOfYear;
+    }
+
+    // 교사의 모든 주차 키 (Redis glob)
+    public static String teacherPattern(String teacherId) {
+        return "teacherCourses:teacherId:" + escapeGlob(teacherId) + ":year:*";
+    }
+
+    // 교사에 속한 모든 학생, 주차 키 (Redis glob)
+    public static String studentsOfTeacherPattern(String teacherId) {
+        return "studentCourses:studentId:*teacherId:" + escapeGlob(teacherId) + ":year:*";
+    }
+
+    private static String escapeGlob(String value) {
+        return value.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+    }
+}
@@ -0,0 +1,238 @@
+package com.scheduler.courseservice.course.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+// 학생, 교사 이름 n-gram 역색인. gram -> memberId 집합
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CourseNameSearchIndex {
+
+    private static final String PREFIX = "courseSearch:";
+    private static final String READY_KEY = PREFIX + "ready";
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+    private static final int PIPELINE_CHUNK = 500;
+
+    @Value("${course.search.ngram-index.enabled:true}")
+    private boolean enabled;
+
+    // 후보가 너무 많으면 IN 조건보다 기존 LIKE 조회가 나음
+    @Value("${course.search.ngram-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public enum MemberType {
+        STUDENT, TEACHER;
+
+        private String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class NameMatches {
+        private final Set<String> studentIds;
+        private final Set<String> teacherIds;
+    }
+
+    public boolean isReady() {
+        return enabled && Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    }
+
+    private boolean isReadySafely() {
+        try {
+            return isReady();
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    // 색인을 쓸 수 없으면 null -> 호출 측에서 LIKE 조회
+    public NameMatches search(String keyword) {
+        if (keyword == null || normalize(keyword).length() < MIN_GRAM || !isReadySafely()) {
+            return null;
+        }
+
+        String normalized = normalize(keyword);
+
+        try {
+            Set<String> studentIds = searchMembers(MemberType.STUDENT, normalized);
+            Set<String> teacherIds = searchMembers(MemberType.TEACHER, normalized);
+
+            if (studentIds == null || teacherIds == null) {
+                return null;
+            }
+            return new NameMatches(studentIds, teacherIds);
+        } catch (DataAccessException e) {
+            log.warn("n-gram 색인 조회 실패, LIKE 조회로 대체. reason = {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Set<String> searchMembers(MemberType type, String keyword) {
+        int gramSize = Math.min(MAX_GRAM, keyword.length());
+
+        List<String> gramKeys = grams(keyword, gramSize).stream()
+                .map(gram -> gramKey(type, gram))
+                .toList();
+
+        Set<String> candidates = redisTemplate.opsForSet().intersect(gramKeys);
+        if (candidates == null || candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        if (candidates.size() > maxCandidates) {
+            log.info("n-gram 후보 초과. keyword = {}, type = {}, size = {}", keyword, type, candidates.size());
+            return null;
+        }
+
+        // gram 교집합은 연속 여부를 보장하지 않으므로 원래 이름으로 재확인
+        List<String> memberIds = new ArrayList<>(candidates);
+        List<String> names = redisTemplate.opsForValue()
+                .multiGet(memberIds.stream().map(id -> nameKey(type, id)).toList());
+
+        Set<String> matches = new HashSet<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            String name = names == null ? null : names.get(i);
+            if (name != null && normalize(name).contains(keyword)) {
+                matches.add(memberIds.get(i));
+            }
+        }
+        return matches;
+    }
+
+    public void index(MemberType type, String memberId, String name) {
+        if (!enabled || memberId == null || name == null) {
+            return;
+        }
+
+        String nameKey = nameKey(type, memberId);
+
+        // 색인 갱신 실패로 수업 저장이 실패하면 안 됨. 다음 재색인에서 복구
+        try {
+            String oldName = redisTemplate.opsForValue().get(nameKey);
+
+            if (name.equals(oldName)) {
+                return;
+            }
+
+            Set<String> oldGrams = oldName == null ? Set.of() : allGrams(oldName);
+            Set<String> newGrams = allGrams(name);
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+                for (String gram : oldGrams) {
+                    if (!newGrams.contains(gram)) {
+                        stringConnection.sRem(gramKey(type, gram), memberId);
+                    }
+                }
+                for (String gram : newGrams) {
+                    stringConnection.sAdd(gramKey(type, gram), memberId);
+                }
+                stringConnection.set(nameKey, name);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("n-gram 색인 갱신 실패. type = {}, memberId = {}, reason = {}", type, memberId, e.getMessage());
+        }
+    }
+
+    // 전체 재색인. 진행 중에는 ready 표시를 내려 LIKE 조회로 대체
+    public void rebuild(Map<String, String> studentNames, Map<String, String> teacherNames) {
+        redisTemplate.delete(READY_KEY);
+        deleteByPattern(PREFIX + "*");
+
+        writeAll(MemberType.STUDENT, studentNames);
+        writeAll(MemberType.TEACHER, teacherNames);
+
+        redisTemplate.opsForValue().set(READY_KEY, "1");
+        log.info("n-gram 색인 완료. student = {}, teacher = {}", studentNames.size(), teacherNames.size());
+    }
+
+    private void writeAll(MemberType type, Map<String, String> names) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(names.entrySet());
+
+        for (int from = 0; from < entries.size(); from += PIPELINE_CHUNK) {
+            List<Map.Entry<String, String>> chunk = entries.subList(from, Math.min(from + PIPELINE_CHUNK, entries.size()));
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+                for (Map.Entry<String, String> entry : chunk) {
+                    if (entry.getValue() == null) continue;
+
+                    for (String gram : allGrams(entry.getValue())) {
+                        stringConnection.sAdd(gramKey(type, gram), entry.getKey());
+                    }
+                    stringConnection.set(nameKey(type, entry.getKey()), entry.getValue());
+                }
+                return null;
+            });
+        }
+    }
+
+    private void deleteByPattern(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(PIPELINE_CHUNK).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= PIPELINE_CHUNK) {
+                    redisTemplate.unlink(keys);
+                    keys.clear();
+                }
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            redisTemplate.unlink(keys);
+        }
+    }
+
+    static Set<String> allGrams(String name) {
+        String normalized = normalize(name);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int size = MIN_GRAM; size <= MAX_GRAM; size++) {
+            grams.addAll(grams(normalized, size));
+        }
+        return grams;
+    }
+
+    static Set<String> grams(String text, int size) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + size <= text.length(); i++) {
+            grams.add(text.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String gramKey(MemberType type, String gram) {
+        return PREFIX + type.key() + ":gram:" + gram;
+    }
+
+    private static String nameKey(MemberType type, String memberId) {
+        return PREFIX + type.key() + ":name:" + memberId;
+    }
+}
@@ -1,11 +1,14 @@
 package com.scheduler.courseservice.course.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.scheduler.courseservice.course.component.DateProvider;
+import com.scheduler.courseservice.course.dto.CourseCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -13,11 +16,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static com.scheduler.courseservice.course.domain.QCourseSchedule.courseSchedule;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseWeekKey;
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseSlice;
+import static com.scheduler.courseservice.course.repository.CourseNameSearchIndex.NameMatches;
 import static org.springframework.data.support.PageableExecutionUtils.getPage;
 
 @Slf4j
@@ -27,36 +37,79 @@ public class CourseRepository {
 
     private final JPAQueryFactory queryFactory;
     private final DateProvider dateProvider;
+    private final CourseNameSearchIndex courseNameSearchIndex;
 
     public Page<StudentCourseResponse> findAllStudentsCourses(
             Pageable pageable, String keyword
     ) {
+        BooleanBuilder filter = keywordFilter(keyword);
+
         List<StudentCourseResponse> contents = commonStudentCourse()
-                .where(
-                        studentNameContains(keyword)
-                                .or(studentIdEq(keyword))
-                                .or(teacherIdEq(keyword))
-                                .or(teacherNameContains(keyword))
-                )
+                .where(filter)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> totalCount = queryFactory
-                .select(courseSchedule.count())
-                .from(courseSchedule);
+        return getPage(contents, pageable, () -> countStudentsCourses(filter));
+    }
+
+    // 최근 주차부터 (courseYear, weekOfYear, id) 역순 keyset 조회. idx_year_week 인덱스를 그대로 탐색
+    public StudentCourseSlice findAllStudentsCoursesBySeek(
+            CourseCursor cursor, int size, String keyword, boolean withTotal
+    ) {
+        QBean<StudentCourseResponse> projection = studentCourseProjection();
+        BooleanBuilder filter = keywordFilter(keyword);
+
+        List<Tuple> rows = queryFactory
+                .select(projection, courseSchedule.id)
+                .from(courseSchedule)
+                .where(
+                        filter,
+                        seekAfter(cursor)
+                )
+                .orderBy(
+                        courseSchedule.courseYear.desc(),
+                        courseSchedule.weekOfYear.desc(),
+                        courseSchedule.id.desc()
+                )
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
 
-        return getPage(contents, pageable, totalCount::fetchOne);
+        List<StudentCourseResponse> contents = pageRows.stream()
+                .map(row -> row.get(projection))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext && !pageRows.isEmpty()) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            StudentCourseResponse lastCourse = last.get(projection);
+            nextCursor = new CourseCursor(
+                    lastCourse.getCourseYear(), lastCourse.getWeekOfYear(), last.get(courseSchedule.id)
+            ).encode();
+        }
+
+        Long totalCount = withTotal ? countStudentsCourses(filter) : null;
+
+        return new StudentCourseSlice(contents, nextCursor, hasNext, totalCount);
+    }
+
+    private Long countStudentsCourses(BooleanBuilder filter) {
+        return queryFactory
+                .select(courseSchedule.count())
+                .from(courseSchedule)
+                .where(filter)
+                .fetchOne();
     }
 
-    // 현재가 아닌 주차 조회
+    // 현재 주차는 수업 저장 후 CourseCacheSynchronizer 가 갱신
     @Cacheable(
-            cacheNames = "teacherCourses",
-            key = "'teacherCourses:teacherId:' + #teacherId + ':year:' + #year + ':weekOfYear:' + #weekOfYear",
+            cacheNames = CourseCacheKeys.TEACHER_CACHE,
+            key = "T(com.scheduler.courseservice.course.repository.CourseCacheKeys).teacher(#teacherId, #year, #weekOfYear)",
             cacheManager = "courseCacheManager",
-            condition =
-                    "!(#year == T(java.time.LocalDate).now().getYear() && " +
-                    "#weekOfYear == T(java.time.LocalDate).now().get(T(java.time.temporal.WeekFields).of(T(java.util.Locale).getDefault()).weekOfYear()))"
+            sync = true
     )
     public List<StudentCourseResponse> getWeeklyCoursesByTeacherId(
             String teacherId, Integer year, Integer weekOfYear
@@ -70,14 +123,12 @@ public class CourseRepository {
                 .fetch();
     }
 
-    // 현재가 아닌 주차 조회
+    // 현재 주차는 수업 저장 후 CourseCacheSynchronizer 가 갱신
     @Cacheable(
-            cacheNames = "studentCourses",
-            key = "'studentCourses:studentId:' + #studentId + 'teacherId:' + #teacherId +':year:' + #year + ':weekOfYear:' + #weekOfYear",
+            cacheNames = CourseCacheKeys.STUDENT_CACHE,
+            key = "T(com.scheduler.courseservice.course.repository.CourseCacheKeys).student(#studentId, #teacherId, #year, #weekOfYear)",
             cacheManager = "courseCacheManager",
-            condition =
-                    "!(#year == T(java.time.LocalDate).now().getYear() && " +
-                    "#weekOfYear == T(java.time.LocalDate).now().get(T(java.time.temporal.WeekFields).of(T(java.util.Locale).getDefault()).weekOfYear()))"
+            sync = true
     )
     public StudentCourseResponse getWeeklyCoursesByStudentId(
             String studentId, String teacherId, Integer year, Integer weekOfYear
@@ -105,23 +156,115 @@ public class CourseRepository {
 
     public JPAQuery<StudentCourseResponse> commonStudentCourse() {
         return queryFactory
-                .select(
-                        Projections.fields(StudentCourseResponse.class,
-                                courseSchedule.studentId,
-                                courseSchedule.studentName,
-                                courseSchedule.teacherId,
-                                courseSchedule.teacherName,
-                                courseSchedule.mondayClassHour,
-                                courseSchedule.tuesdayClassHour,
-                                courseSchedule.wednesdayClassHour,
-                                courseSchedule.thursdayClassHour,
-                                courseSchedule.fridayClassHour,
-                                courseSchedule.courseYear,
-                                courseSchedule.weekOfYear
-                        ))
+                .select(studentCourseProjection())
                 .from(courseSchedule);
     }
 
+    private QBean<StudentCourseResponse> studentCourseProjection() {
+        return Projections.fields(StudentCourseResponse.class,
+                courseSchedule.studentId,
+                courseSchedule.studentName,
+                courseSchedule.teacherId,
+                courseSchedule.teacherName,
+                courseSchedule.mondayClassHour,
+                courseSchedule.tuesdayClassHour,
+                courseSchedule.wednesdayClassHour,
+                courseSchedule.thursdayClassHour,
+                courseSchedule.fridayClassHour,
+                courseSchedule.courseYear,
+                courseSchedule.weekOfYear
+        );
+    }
+
+    public Map<String, String> findAllStudentNames() {
+        return toNameMap(queryFactory
+                .select(courseSchedule.studentId, courseSchedule.studentName)
+                .distinct()
+                .from(courseSchedule)
+                .fetch());
+    }
+
+    public Map<String, String> findAllTeacherNames() {
+        return toNameMap(queryFactory
+                .select(courseSchedule.teacherId, courseSchedule.teacherName)
+                .distinct()
+                .from(courseSchedule)
+                .fetch());
+    }
+
+    public List<CourseWeekKey> findCourseWeeksByStudentIds(Collection<String> studentIds) {
+        return queryFactory
+                .select(Projections.constructor(CourseWeekKey.class,
+                        courseSchedule.studentId,
+                        courseSchedule.teacherId,
+                        courseSchedule.courseYear,
+                        courseSchedule.weekOfYear))
+                .from(courseSchedule)
+                .where(courseSchedule.studentId.in(studentIds))
+                .fetch();
+    }
+
+    // 학생의 모든 주차 수업 이름을 UPDATE 한 번으로 변경
+    public long updateStudentName(String studentId, String studentName) {
+        return queryFactory
+                .update(courseSchedule)
+                .set(courseSchedule.studentName, studentName)
+                .set(courseSchedule.lastModifiedAt, LocalDateTime.now())
+                .where(courseSchedule.studentId.eq(studentId))
+                .execute();
+    }
+
+    // 교사의 모든 주차, 모든 학생 수업 이름을 UPDATE 한 번으로 변경
+    public long updateTeacherName(String teacherId, String teacherName) {
+        return queryFactory
+                .update(courseSchedule)
+                .set(courseSchedule.teacherName, teacherName)
+                .set(courseSchedule.lastModifiedAt, LocalDateTime.now())
+                .where(courseSchedule.teacherId.eq(teacherId))
+                .execute();
+    }
+
+    private Map<String, String> toNameMap(List<Tuple> rows) {
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(0, String.class),
+                        row -> row.get(1, String.class),
+                        (before, after) -> after));
+    }
+
+    // 이름 검색은 n-gram 색인으로 후보 id를 찾고 id 인덱스로 조회. 색인을 못 쓰면 LIKE 조회
+    private BooleanBuilder keywordFilter(String keyword) {
+        NameMatches matches = courseNameSearchIndex.search(keyword);
+
+        if (matches == null) {
+            return studentNameContains(keyword)
+                    .or(studentIdEq(keyword))
+                    .or(teacherIdEq(keyword))
+                    .or(teacherNameContains(keyword));
+        }
+
+        return studentIdEq(keyword)
+                .or(teacherIdEq(keyword))
+                .or(studentIdIn(matches.getStudentIds()))
+                .or(teacherIdIn(matches.getTeacherIds()));
+    }
+
+    // (courseYear, weekOfYear, id) < cursor
+    private BooleanBuilder seekAfter(CourseCursor cursor) {
+        if (cursor == null) {
+            return new BooleanBuilder();
+        }
+
+        int year = cursor.getCourseYear();
+        int week = cursor.getWeekOfYear();
+
+        return new BooleanBuilder(courseSchedule.courseYear.loe(year))
+                .and(courseSchedule.courseYear.lt(year)
+                        .or(courseSchedule.courseYear.eq(year).and(courseSchedule.weekOfYear.lt(week)))
+                        .or(courseSchedule.courseYear.eq(year).and(courseSchedule.weekOfYear.eq(week))
+                                .and(courseSchedule.id.lt(cursor.getId()))));
+    }
+
     private BooleanBuilder yearEq(int year) {
         return nullSafeBooleanBuilder(() -> courseSchedule.courseYear.eq(year));
     }
@@ -142,6 +285,18 @@ public class CourseRepository {
         return nullSafeBooleanBuilder(() -> courseSchedule.studentId.eq(studentId));
     }
 
+    private BooleanBuilder studentIdIn(Collection<String> studentIds) {
+        return studentIds.isEmpty()
+                ? new BooleanBuilder()
+                : nullSafeBooleanBuilder(() -> courseSchedule.studentId.in(studentIds));
+    }
+
+    private BooleanBuilder teacherIdIn(Collection<String> teacherIds) {
+        return teacherIds.isEmpty()
+                ? new BooleanBuilder()
+                : nullSafeBooleanBuilder(() -> courseSchedule.teacherId.in(teacherIds));
+    }
+
     private BooleanBuilder studentNameContains(String studentName) {
         return nullSafeBooleanBuilder(() -> courseSchedule.studentName.contains(studentName));
     }
@@ -0,0 +1,112 @@
+package com.scheduler.courseservice.course.repository;
+
+import com.scheduler.courseservice.infra.id.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+
+// unique_student_year_week 기준 upsert. 행 존재 여부와 관계없이 문장 하나로 저장
+@Repository
+@RequiredArgsConstructor
+public class CourseScheduleUpsertRepository {
+
+    // 같은 주차에 다른 교사로 옮기면 teacher_id 도 바뀌므로, 호출 측에서 findPreviousTeachers 로 이전 교사를 먼저 확인
+    private static final String UPSERT_SQL = """
+            INSERT INTO course_schedule (
+                id, student_id, student_name, teacher_id, teacher_name,
+                monday_class_hour, tuesday_class_hour, wednesday_class_hour, thursday_class_hour, friday_class_hour,
+                course_year, week_of_year, created_at, last_modified_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                student_name = COALESCE(VALUES(student_name), student_name),
+                teacher_id = VALUES(teacher_id),
+                teacher_name = VALUES(teacher_name),
+                monday_class_hour = VALUES(monday_class_hour),
+                tuesday_class_hour = VALUES(tuesday_class_hour),
+                wednesday_class_hour = VALUES(wednesday_class_hour),
+                thursday_class_hour = VALUES(thursday_class_hour),
+                friday_class_hour = VALUES(friday_class_hour),
+                last_modified_at = VALUES(last_modified_at)
+            """;
+
+    private static final String PREVIOUS_TEACHER_SQL = """
+            SELECT student_id, teacher_id FROM course_schedule
+            WHERE course_year = ? AND week_of_year = ? AND teacher_id <> ? AND student_id IN (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 주차에 다른 교사의 수업이 있는 학생. studentId -> 이전 teacherId
+    public Map<String, String> findPreviousTeachers(
+            String teacherId, Collection<String> studentIds, int courseYear, int weekOfYear
+    ) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(courseYear);
+        args.add(weekOfYear);
+        args.add(teacherId);
+        args.addAll(studentIds);
+
+        String placeholders = String.join(", ", Collections.nCopies(studentIds.size(), "?"));
+
+        Map<String, String> previousTeachers = new HashMap<>();
+        jdbcTemplate.query(PREVIOUS_TEACHER_SQL.formatted(placeholders),
+                (RowCallbackHandler) rs -> previousTeachers.put(rs.getString("student_id"), rs.getString("teacher_id")),
+                args.toArray());
+        return previousTeachers;
+    }
+
+    public void upsert(CourseRequestMessage courseMessage, int courseYear, int weekOfYear) {
+        jdbcTemplate.update(UPSERT_SQL, params(courseMessage, courseYear, weekOfYear, now()));
+    }
+
+    public void upsertAll(Collection<CourseRequestMessage> courseMessages, int courseYear, int weekOfYear) {
+        if (courseMessages.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = now();
+        List<Object[]> batchArgs = courseMessages.stream()
+                .map(courseMessage -> params(courseMessage, courseYear, weekOfYear, now))
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+
+    private static Object[] params(CourseRequestMessage courseMessage, int courseYear, int weekOfYear, Timestamp now) {
+        return new Object[]{
+                TimeOrderedIdGenerator.nextId(),
+                courseMessage.getStudentId(),
+                courseMessage.getStudentName(),
+                courseMessage.getTeacherId(),
+                courseMessage.getTeacherName(),
+                hour(courseMessage.getMondayClassHour()),
+                hour(courseMessage.getTuesdayClassHour()),
+                hour(courseMessage.getWednesdayClassHour()),
+                hour(courseMessage.getThursdayClassHour()),
+                hour(courseMessage.getFridayClassHour()),
+                courseYear,
+                weekOfYear,
+                now,
+                now
+        };
+    }
+
+    private static int hour(Integer classHour) {
+        return classHour == null ? 0 : classHour;
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
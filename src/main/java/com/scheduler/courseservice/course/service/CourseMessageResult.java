@@ -0,0 +1,38 @@
+package com.scheduler.courseservice.course.service;
+
+import lombok.Getter;
+
+// 배치 내 메시지 한 건의 처리 결과
+@Getter
+public class CourseMessageResult {
+
+    public enum Status {
+        APPLIED, ALREADY_PROCESSED, CONFLICT, INVALID
+    }
+
+    private Status status;
+    private String idempotencyKey;
+    private String teacherId;
+    private String studentId;
+    private String reason;
+
+    public static CourseMessageResult of(
+            Status status, String idempotencyKey, String teacherId, String studentId, String reason
+    ) {
+        CourseMessageResult result = new CourseMessageResult();
+        result.status = status;
+        result.idempotencyKey = idempotencyKey;
+        result.teacherId = teacherId;
+        result.studentId = studentId;
+        result.reason = reason;
+        return result;
+    }
+
+    public CourseMessageResult withIdempotencyKey(String idempotencyKey) {
+        return of(status, idempotencyKey, teacherId, studentId, reason);
+    }
+
+    public boolean isApplied() {
+        return status == Status.APPLIED;
+    }
+}
@@ -1,47 +1,165 @@
 package com.scheduler.courseservice.course.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scheduler.courseservice.course.component.TeacherLock;
+import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
+import com.scheduler.courseservice.outbox.domain.PayloadCodec;
+import com.scheduler.courseservice.outbox.service.CoursePayloadCodec;
 import com.scheduler.courseservice.outbox.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static com.scheduler.courseservice.course.service.CourseMessageResult.Status.ALREADY_PROCESSED;
+import static com.scheduler.courseservice.course.service.CourseMessageResult.Status.CONFLICT;
+import static com.scheduler.courseservice.course.service.CourseMessageResult.Status.INVALID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CourseMessageService {
 
+    private static final String IDEMPOTENCY_METRIC = "course.idempotency.claims";
+
     private final CourseScheduleService courseScheduleService;
-    private final RedissonClient redissonClient;
+    private final TeacherLock teacherLock;
+    private final SlotReservationService slotReservationService;
     private final IdempotencyService idempotencyService;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     public void processMessage(String idem, String message) throws Exception {
-        if (idem != null && !idempotencyService.claim(idem)) {
-            return; // 이미 처리된 메시지는 스킵
+        if (idem != null) {
+            boolean claimed = idempotencyService.claim(idem);
+            countClaims(claimed ? 1 : 0, claimed ? 0 : 1);
+            if (!claimed) {
+                return; // 이미 처리된 메시지는 스킵
+            }
         }
 
         CourseRequestMessage courseMessage = objectMapper.readValue(message, CourseRequestMessage.class);
 
-        String lockKey = "courseLock:" + courseMessage.getTeacherId();
-        RLock lock = redissonClient.getLock(lockKey);
+        try (TeacherLock.Handle ignored = teacherLock.acquire(courseMessage.getTeacherId())) {
+            courseScheduleService.updateSchedule(courseMessage);
+        } catch (DuplicateCourseException e) {
+            slotReservationService.release(courseMessage);
+            throw e;
+        } catch (Exception e) {
+            idempotencyService.release(idem);
+            throw e;
+        }
+    }
+
+    public List<CourseMessageResult> processBatch(List<String> idemKeys, List<String> messages) throws InterruptedException {
+        return processBatch(idemKeys, null, messages);
+    }
+
+    // 교사별로 묶어 락, 주간 조회, 저장을 한 번씩만 수행. 결과는 입력 순서와 같음
+    // eventTypes 는 Event-Type 헤더 값. 없으면 JSON 으로 읽음
+    public List<CourseMessageResult> processBatch(
+            List<String> idemKeys, List<String> eventTypes, List<String> messages
+    ) throws InterruptedException {
+        CourseMessageResult[] results = new CourseMessageResult[messages.size()];
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        CourseRequestMessage[] courseMessages = new CourseRequestMessage[messages.size()];
 
-        boolean available = lock.tryLock(5, SECONDS);
+        List<Boolean> claimed = idempotencyService.claimAll(idemKeys);
 
-        if (!available) {
-            log.warn("Skipping processing for studentId {} as it's locked.", courseMessage.getStudentId());
-            throw new RuntimeException("Lock acquisition failed for key: " + lockKey);
+        int hits = 0;
+        for (int i = 0; i < idemKeys.size(); i++) {
+            if (idemKeys.get(i) != null && !claimed.get(i)) {
+                hits++;
+            }
         }
+        countClaims((int) idemKeys.stream().filter(Objects::nonNull).count() - hits, hits);
+
+        for (int i = 0; i < messages.size(); i++) {
+            String idem = idemKeys.get(i);
+
+            if (!claimed.get(i)) {
+                results[i] = CourseMessageResult.of(ALREADY_PROCESSED, idem, null, null, null);
+                continue;
+            }
+
+            String eventType = eventTypes != null && eventTypes.size() > i ? eventTypes.get(i) : null;
+            try {
+                courseMessages[i] = read(eventType, messages.get(i));
+            } catch (JsonProcessingException e) {
+                results[i] = CourseMessageResult.of(INVALID, idem, null, null, e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                results[i] = CourseMessageResult.of(INVALID, idem, null, null, e.getMessage());
+                continue;
+            }
+
+            if (courseMessages[i].getTeacherId() == null) {
+                results[i] = CourseMessageResult.of(INVALID, idem, null, courseMessages[i].getStudentId(), "teacherId is null");
+                continue;
+            }
+
+            groups.computeIfAbsent(courseMessages[i].getTeacherId(), teacherId -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Integer>> pendingGroups = new ArrayList<>(groups.values());
+
+        for (int g = 0; g < pendingGroups.size(); g++) {
+            List<Integer> positions = pendingGroups.get(g);
+            List<CourseRequestMessage> teacherMessages = positions.stream()
+                    .map(position -> courseMessages[position])
+                    .toList();
+            String teacherId = teacherMessages.get(0).getTeacherId();
+
+            List<CourseMessageResult> groupResults;
+            try (TeacherLock.Handle ignored = teacherLock.acquire(teacherId)) {
+                groupResults = courseScheduleService.applyBatch(teacherId, teacherMessages);
+            } catch (RuntimeException | InterruptedException e) {
+                // 커밋되지 않은 그룹의 선점을 풀어 배치 재전송 시 다시 처리
+                releaseClaims(idemKeys, pendingGroups.subList(g, pendingGroups.size()));
+                throw e;
+            }
+
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                results[position] = groupResults.get(i).withIdempotencyKey(idemKeys.get(position));
+
+                // 충돌로 거절된 신청은 신청 시점의 선점을 풂
+                if (results[position].getStatus() == CONFLICT) {
+                    slotReservationService.release(courseMessages[position]);
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    // hit 는 이미 처리된 메시지
+    private void countClaims(int misses, int hits) {
+        meterRegistry.counter(IDEMPOTENCY_METRIC, "result", "miss").increment(misses);
+        meterRegistry.counter(IDEMPOTENCY_METRIC, "result", "hit").increment(hits);
+    }
+
+    private CourseRequestMessage read(String eventType, String message) throws JsonProcessingException {
+        if (PayloadCodec.fromHeader(eventType) == PayloadCodec.BIN1) {
+            return CoursePayloadCodec.decode(message);
+        }
+        return objectMapper.readValue(message, CourseRequestMessage.class);
+    }
+
+    private void releaseClaims(List<String> idemKeys, List<List<Integer>> failedGroups) {
+        List<String> keys = failedGroups.stream()
+                .flatMap(List::stream)
+                .map(idemKeys::get)
+                .toList();
 
         try {
-            courseScheduleService.updateSchedule(courseMessage);
-        } finally {
-            lock.unlock();
+            idempotencyService.releaseAll(keys);
+        } catch (Exception e) {
+            log.error("멱등성 키 해제 실패. keys = {}", keys, e);
         }
     }
 }
@@ -4,11 +4,14 @@ import org.springframework.data.domain.Page;
 
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseList;
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseSlice;
 
 public interface CourseQueryService {
 
     Page<StudentCourseResponse> findAllStudentsCourses(Integer page, Integer size, String keyword);
 
+    StudentCourseSlice findAllStudentsCoursesBySeek(String cursor, Integer size, String keyword, boolean withTotal);
+
     CourseList findTeachersClasses(String token, Integer year, Integer weekOfYear);
 
     StudentCourseResponse findStudentClasses(String token, Integer year, Integer weekOfYear);
@@ -1,7 +1,8 @@
 package com.scheduler.courseservice.course.service;
 
-import com.scheduler.courseservice.client.MemberServiceClient;
+import com.scheduler.courseservice.client.MemberInfoCache;
 import com.scheduler.courseservice.course.component.DateProvider;
+import com.scheduler.courseservice.course.dto.CourseCursor;
 import com.scheduler.courseservice.course.repository.CourseRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseList;
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseList.Day.*;
 import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseSlice;
 import static org.springframework.data.domain.PageRequest.of;
 
 @Slf4j
@@ -25,7 +27,7 @@ public class CourseQueryServiceImpl implements CourseQueryService {
 
     private final DateProvider dateProvider;
     private final CourseRepository courseRepository;
-    private final MemberServiceClient memberServiceClient;
+    private final MemberInfoCache memberInfoCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -37,13 +39,22 @@ public class CourseQueryServiceImpl implements CourseQueryService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public StudentCourseSlice findAllStudentsCoursesBySeek(
+            String cursor, Integer size, String keyword, boolean withTotal
+    ) {
+        return courseRepository
+                .findAllStudentsCoursesBySeek(CourseCursor.decode(cursor), size, keyword, withTotal);
+    }
+
     @Override
     @Transactional(readOnly = true)
     @CircuitBreaker(name = "studentService", fallbackMethod = "fallbackFindStudentClasses")
     public StudentCourseResponse findStudentClasses(
             String token, Integer year, Integer weekOfYear
     ) {
-        StudentInfo studentInfo = memberServiceClient.findStudentInfoByToken(token);
+        StudentInfo studentInfo = memberInfoCache.findStudentInfo(token);
 
         if (studentInfo == null) {
             throw new IllegalStateException("StudentInfo is null");
@@ -71,7 +82,7 @@ public class CourseQueryServiceImpl implements CourseQueryService {
     @CircuitBreaker(name = "teacherService", fallbackMethod = "fallbackFindTeachersClasses")
     public CourseList findTeachersClasses(String token, Integer year, Integer weekOfYear) {
 
-        String teacherId = memberServiceClient.findTeacherInfoByToken(token).getTeacherId();
+        String teacherId = memberInfoCache.findTeacherInfo(token).getTeacherId();
 
         int finalYear = (year != null) ? year : dateProvider.getCurrentYear();
         int finalWeekOfYear = (weekOfYear != null) ? weekOfYear : dateProvider.getCurrentWeek();
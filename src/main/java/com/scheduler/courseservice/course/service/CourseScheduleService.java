@@ -1,72 +1,105 @@
 package com.scheduler.courseservice.course.service;
 
 import com.scheduler.courseservice.course.component.DateProvider;
-import com.scheduler.courseservice.course.domain.CourseSchedule;
-import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.course.domain.CourseScheduleChangedEvent;
+import com.scheduler.courseservice.course.repository.CourseNameSearchIndex;
+import com.scheduler.courseservice.course.repository.CourseScheduleUpsertRepository;
+import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.repository.CourseNameSearchIndex.MemberType.STUDENT;
+import static com.scheduler.courseservice.course.repository.CourseNameSearchIndex.MemberType.TEACHER;
+import static com.scheduler.courseservice.course.service.CourseMessageResult.Status.*;
 
 @Service
 @RequiredArgsConstructor
 public class CourseScheduleService {
 
     private final ScheduleConflictValidator validator;
-    private final RedissonClient redissonClient;
-    private final CourseJpaRepository courseJpaRepository;
+    private final WeeklySlotSnapshot weeklySlotSnapshot;
+    private final CourseScheduleUpsertRepository courseScheduleUpsertRepository;
     private final DateProvider dateProvider;
+    private final CourseNameSearchIndex courseNameSearchIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public void updateSchedule(CourseRequestMessage courseMessage) {
+        CourseMessageResult result = applyBatch(courseMessage.getTeacherId(), List.of(courseMessage)).get(0);
+
+        if (result.getStatus() == CONFLICT) {
+            throw new DuplicateCourseException(result.getReason());
+        }
+        if (result.getStatus() == INVALID) {
+            throw new IllegalArgumentException(result.getReason());
+        }
+    }
+
+    // 같은 교사의 메시지를 도착 순서대로 검증하고 한 번에 저장. 호출 측에서 교사 락을 잡아야 함
+    @Transactional
+    public List<CourseMessageResult> applyBatch(String teacherId, List<CourseRequestMessage> courseMessages) {
         int currentYear = dateProvider.getCurrentYear();
         int currentWeek = dateProvider.getCurrentWeek();
 
-        String teacherCacheKey = String.format("courseSchedules:%d:%d:teacher:%s",
-                currentYear,
-                currentWeek,
-                courseMessage.getTeacherId());
-
-        RBucket<List<CourseSchedule>> teacherBucket = redissonClient.getBucket(teacherCacheKey);
-
-        List<CourseSchedule> scheduleList = Optional.ofNullable(teacherBucket.get())
-                .orElseGet(() -> {
-                    List<CourseSchedule> dataFromDb = courseJpaRepository
-                            .findAllCourseScheduleByTeacherIdAndCourseYearAndWeekOfYear(
-                                    courseMessage.getTeacherId(),
-                                    currentYear, currentWeek);
-                    // "기존 데이터"를 캐시에 채워넣기
-                    teacherBucket.set(dataFromDb);
-                    return dataFromDb;
-                });
-
-        // 해당 시간대에 다른 학생의 수업이 있는지 확인
-        validator.validate(courseMessage, scheduleList);
-
-        // 기존 데이터 조회 (중복 방지)
-        Optional<CourseSchedule> existingSchedule = scheduleList.stream()
-                .filter(s -> s.getStudentId().equals(courseMessage.getStudentId()))
-                .findFirst();
-
-        CourseSchedule courseSchedule;
-
-        if (existingSchedule.isPresent()) {
-            // 기존 데이터 업데이트
-            courseSchedule = existingSchedule.get();
-            courseSchedule.updateSchedule(courseMessage);
-        } else {
-            // 새로운 데이터 추가
-            courseSchedule = CourseSchedule.create(courseMessage);
+        Map<String, Integer> packedHours = weeklySlotSnapshot.findTeacherWeek(teacherId, currentYear, currentWeek);
+
+        // 주간 점유 현황은 배치 동안 한 번만 만들고 메시지마다 갱신
+        ScheduleSlotIndex slotIndex = ScheduleSlotIndex.ofPacked(packedHours);
+
+        Map<String, CourseRequestMessage> changed = new LinkedHashMap<>();
+        List<CourseMessageResult> results = new ArrayList<>();
+
+        for (CourseRequestMessage courseMessage : courseMessages) {
+            String studentId = courseMessage.getStudentId();
+
+            int[] hours;
+            try {
+                hours = ScheduleSlotIndex.hoursOf(courseMessage);
+            } catch (IllegalArgumentException e) {
+                results.add(CourseMessageResult.of(INVALID, null, teacherId, studentId, e.getMessage()));
+                continue;
+            }
+
+            // 해당 시간대에 다른 학생의 수업이 있는지 확인
+            try {
+                validator.validate(courseMessage, slotIndex);
+            } catch (DuplicateCourseException e) {
+                results.add(CourseMessageResult.of(CONFLICT, null, teacherId, studentId, e.getMessage()));
+                continue;
+            }
+
+            // 같은 배치의 다음 메시지가 바뀐 점유 현황으로 검증되도록 반영
+            slotIndex.release(studentId);
+            slotIndex.occupy(studentId, hours);
+
+            changed.put(studentId, courseMessage);
+            results.add(CourseMessageResult.of(APPLIED, null, teacherId, studentId, null));
         }
 
-        courseJpaRepository.save(courseSchedule);
-        teacherBucket.delete();
+        if (changed.isEmpty()) {
+            return results;
+        }
+
+        // upsert 가 teacher_id 를 바꾸기 전에 이전 교사 확인
+        Map<String, String> previousTeachers = courseScheduleUpsertRepository
+                .findPreviousTeachers(teacherId, changed.keySet(), currentYear, currentWeek);
+
+        // 기존 수업 여부와 관계없이 upsert 한 번으로 저장
+        courseScheduleUpsertRepository.upsertAll(changed.values(), currentYear, currentWeek);
+
+        for (CourseRequestMessage courseMessage : changed.values()) {
+            // 커밋 후 조회 캐시, 주간 점유 현황 갱신
+            applicationEventPublisher.publishEvent(CourseScheduleChangedEvent.of(courseMessage, currentYear, currentWeek,
+                    previousTeachers.get(courseMessage.getStudentId())));
+            courseNameSearchIndex.index(STUDENT, courseMessage.getStudentId(), courseMessage.getStudentName());
+        }
+        courseNameSearchIndex.index(TEACHER, teacherId, courseMessages.get(0).getTeacherName());
 
+        return results;
     }
 }
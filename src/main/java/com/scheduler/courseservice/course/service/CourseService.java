@@ -15,8 +15,13 @@ public interface CourseService {
 
       void changeStudentName(ChangeMemberNameDto changeMemberNameDto);
 
+      void changeStudentNames(List<ChangeMemberNameDto> changeMemberNameDtos);
+
+      void changeTeacherNames(List<ChangeMemberNameDto> changeMemberNameDtos);
+
       void saveCourseTable(
               @Header(name = "Idempotency-Key", required = false) List<String> idemKeys,
+              @Header(name = "Event-Type", required = false) List<String> eventTypes,
               @Payload List<String> messages,
               Acknowledgment ack
       );
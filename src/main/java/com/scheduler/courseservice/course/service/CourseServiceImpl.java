@@ -1,15 +1,21 @@
 package com.scheduler.courseservice.course.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.scheduler.courseservice.client.MemberServiceClient;
-import com.scheduler.courseservice.course.domain.CourseSchedule;
-import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.client.MemberInfoCache;
+import com.scheduler.courseservice.course.component.CourseAdmission;
+import com.scheduler.courseservice.course.domain.CourseNameChangedEvent;
+import com.scheduler.courseservice.course.domain.TeacherNameChangedEvent;
+import com.scheduler.courseservice.course.repository.CourseNameSearchIndex;
+import com.scheduler.courseservice.course.repository.CourseRepository;
+import com.scheduler.courseservice.infra.exception.custom.CourseOverloadedException;
 import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
 import com.scheduler.courseservice.outbox.service.CourseCreatedEventPayload;
 import com.scheduler.courseservice.outbox.service.OutBoxEventPublisher;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Header;
@@ -17,12 +23,18 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 
 import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseWeekKey;
 import static com.scheduler.courseservice.course.messaging.RabbitMQDto.ChangeMemberNameDto;
+import static com.scheduler.courseservice.course.repository.CourseNameSearchIndex.MemberType.STUDENT;
+import static com.scheduler.courseservice.course.repository.CourseNameSearchIndex.MemberType.TEACHER;
 import static com.scheduler.courseservice.outbox.domain.EventType.CREATED;
 
 @Slf4j
@@ -30,17 +42,35 @@ import static com.scheduler.courseservice.outbox.domain.EventType.CREATED;
 @RequiredArgsConstructor
 public class CourseServiceImpl implements CourseService {
 
-    private final MemberServiceClient memberServiceClient;
-    private final CourseJpaRepository courseJpaRepository;
+    private static final String CONSUMER_BATCH_METRIC = "course.consumer.batch";
+    private static final String CONSUMER_MESSAGE_METRIC = "course.consumer.messages";
+
+    private final MemberInfoCache memberInfoCache;
+    private final CourseAdmission courseAdmission;
+    private final CourseRepository courseRepository;
     private final OutBoxEventPublisher outBoxEventPublisher;
     private final CourseMessageService courseMessageService;
+    private final CourseNameSearchIndex courseNameSearchIndex;
+    private final SlotReservationService slotReservationService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Transactional("transactionManager")
     @CircuitBreaker(name = "studentService", fallbackMethod = "fallbackSaveClassTable")
     public void applyCourse(String token, UpsertCourseRequest upsertCourseRequest) {
 
-        StudentInfo studentInfo = memberServiceClient.findStudentInfoByToken(token);
+        StudentInfo studentInfo = memberInfoCache.findStudentInfo(token);
+        CourseRequestMessage courseMessage = new CourseRequestMessage(studentInfo, upsertCourseRequest);
+
+        // 컨슈머나 outbox 가 밀려 있으면 선점 전에 거절. 이미 선점된 재제출이면 outbox 를 더 쌓지 않음
+        if (!courseAdmission.admit(courseMessage)) {
+            return;
+        }
+
+        // 이미 선점된 시간이면 발행 전에 거절
+        slotReservationService.reserve(courseMessage);
+
         outBoxEventPublisher.publish(
                 CREATED, new CourseCreatedEventPayload(studentInfo, upsertCourseRequest)
         );
@@ -49,6 +79,13 @@ public class CourseServiceImpl implements CourseService {
     protected void fallbackSaveClassTable(
             String token, UpsertCourseRequest upsertCourseRequest, Throwable e
     ) {
+        if (e instanceof DuplicateCourseException duplicateCourseException) {
+            throw duplicateCourseException;
+        }
+        if (e instanceof CourseOverloadedException courseOverloadedException) {
+            throw courseOverloadedException;
+        }
+
         log.warn("Reason: ", e);
         throw new RuntimeException("수업 정보를 저장할 수 없습니다. 다시 시도해 주세요.");
     }
@@ -60,6 +97,7 @@ public class CourseServiceImpl implements CourseService {
     )
     public void saveCourseTable(
             @Header(name = "Idempotency-Key", required = false) List<String> idemKeys,
+            @Header(name = "Event-Type", required = false) List<String> eventTypes,
             @Payload List<String> messages,
             Acknowledgment ack
     ) {
@@ -68,25 +106,37 @@ public class CourseServiceImpl implements CourseService {
             return;
         }
 
+        List<String> paddedIdemKeys = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            paddedIdemKeys.add((idemKeys != null && idemKeys.size() > i) ? idemKeys.get(i) : null);
+        }
+
+        meterRegistry.summary(CONSUMER_BATCH_METRIC + ".size").record(messages.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
         try {
-            for (int i = 0; i < messages.size(); i++) {
-                String idem = (idemKeys != null && idemKeys.size() > i) ? idemKeys.get(i) : null;
-                String message = messages.get(i);
-
-                try {
-                    courseMessageService.processMessage(idem, message);
-                } catch (DuplicateCourseException e) {
-                    log.warn("DuplicateCourse (배치 계속 진행): message = {}, reason = {}", message, e.getMessage());
-                } catch (JsonProcessingException e) {
-                    log.warn("JsonType Error : message = {}, errorMessage = {}", message, e.getMessage());
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
+            List<CourseMessageResult> results = courseMessageService.processBatch(paddedIdemKeys, eventTypes, messages);
+
+            for (int i = 0; i < results.size(); i++) {
+                CourseMessageResult result = results.get(i);
+                meterRegistry.counter(CONSUMER_MESSAGE_METRIC, "status", result.getStatus().name()).increment();
+
+                switch (result.getStatus()) {
+                    case CONFLICT -> log.warn("DuplicateCourse (배치 계속 진행): message = {}, reason = {}",
+                            messages.get(i), result.getReason());
+                    case INVALID -> log.warn("Invalid message : message = {}, errorMessage = {}",
+                            messages.get(i), result.getReason());
+                    case ALREADY_PROCESSED -> log.debug("이미 처리된 메시지 : idem = {}", result.getIdempotencyKey());
+                    default -> {
+                    }
                 }
             }
 
             ack.acknowledge();
+            sample.stop(meterRegistry.timer(CONSUMER_BATCH_METRIC, "result", "success"));
 
         } catch (Exception e) {
+            sample.stop(meterRegistry.timer(CONSUMER_BATCH_METRIC, "result", "failure"));
             log.error("배치 처리 중 재시도 필요한 오류 발생 :", e);
             throw new RuntimeException(e);
         }
@@ -96,13 +146,68 @@ public class CourseServiceImpl implements CourseService {
     @Override
     @Transactional
     public void changeStudentName(ChangeMemberNameDto changeMemberNameDto) {
+        changeStudentNames(List.of(changeMemberNameDto));
+    }
 
-        String studentId = changeMemberNameDto.getMemberId();
+    // 학생마다 모든 주차를 UPDATE 한 번으로 변경하고, 커밋 후 영향받은 캐시 키만 삭제
+    @Override
+    @Transactional
+    public void changeStudentNames(List<ChangeMemberNameDto> changeMemberNameDtos) {
+        if (changeMemberNameDtos.isEmpty()) {
+            return;
+        }
 
-        CourseSchedule courseSchedule = courseJpaRepository.findCourseScheduleByStudentId(studentId)
-                .orElseThrow(NoSuchElementException::new);
+        // 같은 학생의 이름이 여러 번 바뀌었으면 마지막 이름만 반영
+        Map<String, String> newNames = new LinkedHashMap<>();
+        for (ChangeMemberNameDto changeMemberNameDto : changeMemberNameDtos) {
+            newNames.put(changeMemberNameDto.getMemberId(), changeMemberNameDto.getNewName());
+        }
 
-        courseSchedule.updateStudentName(changeMemberNameDto.getNewName());
+        List<CourseWeekKey> courseWeeks = courseRepository.findCourseWeeksByStudentIds(newNames.keySet());
+
+        // 수업이 없어도 회원 캐시, 이름 색인은 새 이름으로 맞춤
+        newNames.forEach((studentId, newName) -> {
+            long updated = courseRepository.updateStudentName(studentId, newName);
+            if (updated == 0) {
+                log.warn("이름을 변경할 수업이 없습니다. studentId = {}", studentId);
+            }
+
+            courseNameSearchIndex.index(STUDENT, studentId, newName);
+            memberInfoCache.evictMember(studentId);
+        });
+
+        applicationEventPublisher.publishEvent(new CourseNameChangedEvent(courseWeeks));
     }
 
-}
\ No newline at end of file
+    // 교사마다 UPDATE 한 번. 학생 수와 관계없이 행 단위 작업 없음
+    @Override
+    @Transactional
+    public void changeTeacherNames(List<ChangeMemberNameDto> changeMemberNameDtos) {
+        if (changeMemberNameDtos.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> newNames = new LinkedHashMap<>();
+        for (ChangeMemberNameDto changeMemberNameDto : changeMemberNameDtos) {
+            newNames.put(changeMemberNameDto.getMemberId(), changeMemberNameDto.getNewName());
+        }
+
+        List<String> changedTeacherIds = new ArrayList<>();
+
+        // 수업이 없어도 회원 캐시, 이름 색인은 새 이름으로 맞추고, 수업 캐시는 바뀐 교사만 삭제
+        newNames.forEach((teacherId, newName) -> {
+            long updated = courseRepository.updateTeacherName(teacherId, newName);
+
+            courseNameSearchIndex.index(TEACHER, teacherId, newName);
+            memberInfoCache.evictMember(teacherId);
+
+            if (updated == 0) {
+                log.warn("이름을 변경할 수업이 없습니다. teacherId = {}", teacherId);
+                return;
+            }
+            changedTeacherIds.add(teacherId);
+        });
+
+        applicationEventPublisher.publishEvent(new TeacherNameChangedEvent(changedTeacherIds));
+    }
+}
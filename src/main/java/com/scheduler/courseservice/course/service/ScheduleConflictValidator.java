@@ -5,33 +5,26 @@ import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseExcepti
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Objects;
 
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.service.ScheduleSlotIndex.SlotConflict;
 
 @Component
 public class ScheduleConflictValidator {
 
     public void validate(CourseRequestMessage newSchedule, List<CourseSchedule> existingSchedules) {
-        for (CourseSchedule existing : existingSchedules) {
-            if (Objects.equals(existing.getStudentId(), newSchedule.getStudentId())) continue;
-
-            checkSlot(newSchedule.getMondayClassHour(), existing.getMondayClassHour(), newSchedule, existing);
-            checkSlot(newSchedule.getTuesdayClassHour(), existing.getTuesdayClassHour(), newSchedule, existing);
-            checkSlot(newSchedule.getWednesdayClassHour(), existing.getWednesdayClassHour(), newSchedule, existing);
-            checkSlot(newSchedule.getThursdayClassHour(), existing.getThursdayClassHour(), newSchedule, existing);
-            checkSlot(newSchedule.getFridayClassHour(), existing.getFridayClassHour(), newSchedule, existing);
-        }
+        validate(newSchedule, ScheduleSlotIndex.of(existingSchedules));
     }
 
-    private void checkSlot(Integer newHour, Integer existingHour, CourseRequestMessage newSchedule, CourseSchedule existing) {
-        boolean isNewSlotValid = (newHour != null && newHour != 0);
+    public void validate(CourseRequestMessage newSchedule, ScheduleSlotIndex slotIndex) {
+        List<SlotConflict> conflicts = slotIndex.findConflicts(
+                newSchedule.getStudentId(), ScheduleSlotIndex.hoursOf(newSchedule));
 
-        if (isNewSlotValid && Objects.equals(newHour, existingHour)) {
+        if (!conflicts.isEmpty()) {
             throw new DuplicateCourseException(
-                    String.format("Schedule conflict detected for teacher %s with existing student %s on same time slot",
-                            newSchedule.getTeacherName(), existing.getStudentName())
+                    String.format("Schedule conflict detected for teacher %s with existing students on same time slots %s",
+                            newSchedule.getTeacherName(), conflicts)
             );
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package com.scheduler.courseservice.course.service;
+
+import com.scheduler.courseservice.course.domain.CourseSchedule;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseList.Day;
+
+// 교사 1명의 주간 점유 현황. 요일당 비트마스크 AND 한 번으로 충돌 검사
+public class ScheduleSlotIndex {
+
+    public static final int MAX_CLASS_HOUR = 10;
+
+    private static final Day[] DAYS = Day.values();
+
+    // 요일당 4비트 (0 ~ 10교시), 월요일이 하위 비트
+    private static final int HOUR_BITS = 4;
+    private static final int HOUR_MASK = (1 << HOUR_BITS) - 1;
+
+    // 요일별 점유 비트마스크 (bit n = n교시)
+    private final int[] occupied = new int[DAYS.length];
+
+    // 요일, 교시별 점유 학생
+    private final String[][] owners = new String[DAYS.length][MAX_CLASS_HOUR + 1];
+
+    public static ScheduleSlotIndex of(List<CourseSchedule> schedules) {
+        ScheduleSlotIndex index = new ScheduleSlotIndex();
+        for (CourseSchedule schedule : schedules) {
+            index.occupy(schedule.getStudentId(), hoursOf(schedule));
+        }
+        return index;
+    }
+
+    // studentId -> pack 된 주간 시간
+    public static ScheduleSlotIndex ofPacked(Map<String, Integer> packedHours) {
+        ScheduleSlotIndex index = new ScheduleSlotIndex();
+        packedHours.forEach((studentId, packed) -> index.occupy(studentId, unpack(packed)));
+        return index;
+    }
+
+    public void occupy(String studentId, int[] hours) {
+        for (int day = 0; day < DAYS.length; day++) {
+            int hour = hours[day];
+            if (hour == 0) continue;
+
+            occupied[day] |= bit(hour);
+            owners[day][hour] = studentId;
+        }
+    }
+
+    public void release(String studentId) {
+        for (int day = 0; day < DAYS.length; day++) {
+            for (int hour = 1; hour <= MAX_CLASS_HOUR; hour++) {
+                if (Objects.equals(owners[day][hour], studentId)) {
+                    owners[day][hour] = null;
+                    occupied[day] &= ~bit(hour);
+                }
+            }
+        }
+    }
+
+    // 본인이 점유한 시간은 충돌로 보지 않음
+    public List<SlotConflict> findConflicts(String studentId, int[] hours) {
+        List<SlotConflict> conflicts = new ArrayList<>();
+
+        for (int day = 0; day < DAYS.length; day++) {
+            int hour = hours[day];
+            if ((occupied[day] & bit(hour)) == 0) continue;
+
+            String owner = owners[day][hour];
+            if (!Objects.equals(owner, studentId)) {
+                conflicts.add(new SlotConflict(DAYS[day], hour, owner));
+            }
+        }
+        return conflicts;
+    }
+
+    public static int[] hoursOf(CourseSchedule schedule) {
+        return hours(
+                schedule.getMondayClassHour(), schedule.getTuesdayClassHour(), schedule.getWednesdayClassHour(),
+                schedule.getThursdayClassHour(), schedule.getFridayClassHour()
+        );
+    }
+
+    public static int[] hoursOf(CourseRequestMessage message) {
+        return hours(
+                message.getMondayClassHour(), message.getTuesdayClassHour(), message.getWednesdayClassHour(),
+                message.getThursdayClassHour(), message.getFridayClassHour()
+        );
+    }
+
+    public static int pack(int[] hours) {
+        int packed = 0;
+        for (int day = 0; day < DAYS.length; day++) {
+            packed |= hours[day] << (day * HOUR_BITS);
+        }
+        return packed;
+    }
+
+    public static int[] unpack(int packed) {
+        int[] hours = new int[DAYS.length];
+        for (int day = 0; day < DAYS.length; day++) {
+            hours[day] = (packed >>> (day * HOUR_BITS)) & HOUR_MASK;
+        }
+        return hours;
+    }
+
+    private static int[] hours(Integer... classHours) {
+        int[] hours = new int[DAYS.length];
+        for (int day = 0; day < DAYS.length; day++) {
+            int hour = classHours[day] == null ? 0 : classHours[day];
+            if (hour < 0 || hour > MAX_CLASS_HOUR) {
+                throw new IllegalArgumentException("수업 시간은 0 ~ " + MAX_CLASS_HOUR + " 사이여야 합니다. hour = " + hour);
+            }
+            hours[day] = hour;
+        }
+        return hours;
+    }
+
+    private static int bit(int hour) {
+        return hour == 0 ? 0 : 1 << hour;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SlotConflict {
+
+        private final Day day;
+        private final int classHour;
+        private final String studentId;
+
+        @Override
+        public String toString() {
+            return day + ":" + classHour + "(" + studentId + ")";
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.scheduler.courseservice.course.service;
+
+import com.scheduler.courseservice.course.component.DateProvider;
+import com.scheduler.courseservice.course.domain.CourseSchedule;
+import com.scheduler.courseservice.course.domain.CourseScheduleChangedEvent;
+import com.scheduler.courseservice.course.domain.SlotReservedEvent;
+import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseList.Day;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.StudentCourseResponse;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_ROLLBACK;
+
+// 신청 시점의 교사 주간 시간 선점. 확정 데이터는 컨슈머가 커밋 후 반영하고, 최종 판단은 컨슈머가 함
+// hash courseReserve:{year}:{week}:{teacherId}
+//   "{day}:{hour}"     -> studentId
+//   "student:{id}"     -> "{slot,slot}" 확정된 시간 (DB 기준)
+//   "lease:{id}"       -> "{leaseExpiresAt}:{slot,slot}" 컨슈머 반영 전 선점. 재제출해도 확정된 시간은 그대로 둠
+//   "loaded"           -> DB 확정 데이터 적재 여부
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotReservationService {
+
+    private static final String KEY_PREFIX = "courseReserve:";
+    private static final String NOT_LOADED = "__NOT_LOADED__";
+    private static final String EXPIRED = "__EXPIRED__";
+    private static final Day[] DAYS = Day.values();
+
+    private static final String FUNCTIONS = """
+            local function split(csv)
+              local set = {}
+              if csv then
+                for slot in string.gmatch(csv, '[^,]+') do set[slot] = true end
+              end
+              return set
+            end
+            local function committedOf(sid)
+              return split(redis.call('HGET', KEYS[1], 'student:' .. sid))
+            end
+            local function leaseOf(sid)
+              local rec = redis.call('HGET', KEYS[1], 'lease:' .. sid)
+              if not rec then return nil, {}, nil end
+              local sep = string.find(rec, ':', 1, true)
+              local csv = string.sub(rec, sep + 1)
+              return tonumber(string.sub(rec, 1, sep - 1)), split(csv), csv
+            end
+            local function dropLease(sid)
+              local _, leased = leaseOf(sid)
+              local committed = committedOf(sid)
+              for slot in pairs(leased) do
+                if not committed[slot] and redis.call('HGET', KEYS[1], slot) == sid then
+                  redis.call('HDEL', KEYS[1], slot)
+                end
+              end
+              redis.call('HDEL', KEYS[1], 'lease:' .. sid)
+            end
+            """;
+
+    // ARGV: studentId, now, leaseExpiresAt, keyTtlMillis, slot...
+    // 만료된 선점은 컨슈머가 확정했는데 반영이 빠졌을 수 있으므로 풀지 않고 DB 에서 다시 적재하도록 알림
+    private static final RedisScript<List> RESERVE = RedisScript.of(FUNCTIONS + """
+            if redis.call('HEXISTS', KEYS[1], 'loaded') == 0 then return {'__NOT_LOADED__'} end
+            local student = ARGV[1]
+            local now = tonumber(ARGV[2])
+            local conflicts = {}
+            for i = 5, #ARGV do
+              local owner = redis.call('HGET', KEYS[1], ARGV[i])
+              if owner and owner ~= student then
+                if committedOf(owner)[ARGV[i]] then
+                  table.insert(conflicts, ARGV[i] .. '=' .. owner)
+                else
+                  local expiresAt, leased = leaseOf(owner)
+                  if not leased[ARGV[i]] then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                  elseif expiresAt > now then
+                    table.insert(conflicts, ARGV[i] .. '=' .. owner)
+                  else
+                    return {'__EXPIRED__'}
+                  end
+                end
+              end
+            end
+            if #conflicts > 0 then return conflicts end
+            dropLease(student)
+            local slots = {}
+            for i = 5, #ARGV do
+              redis.call('HSET', KEYS[1], ARGV[i], student)
+              table.insert(slots, ARGV[i])
+            end
+            redis.call('HSET', KEYS[1], 'lease:' .. student, ARGV[3] .. ':' .. table.concat(slots, ','))
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return conflicts
+            """, List.class);
+
+    // ARGV: studentId, keyTtlMillis, slot...
+    // 같은 시간의 선점이면 확정으로 옮기고, 그 사이 다른 시간으로 재제출한 선점은 유지
+    private static final RedisScript<Long> COMMIT = RedisScript.of(FUNCTIONS + """
+            if redis.call('HEXISTS', KEYS[1], 'loaded') == 0 then return 0 end
+            local student = ARGV[1]
+            local expiresAt, leased, leasedCsv = leaseOf(student)
+            local previous = committedOf(student)
+            local slots = {}
+            local current = {}
+            for i = 3, #ARGV do
+              table.insert(slots, ARGV[i])
+              current[ARGV[i]] = true
+            end
+            local csv = table.concat(slots, ',')
+            if expiresAt ~= nil and leasedCsv == csv then
+              redis.call('HDEL', KEYS[1], 'lease:' .. student)
+              leased = {}
+            end
+            for slot in pairs(previous) do
+              if not current[slot] and not leased[slot] and redis.call('HGET', KEYS[1], slot) == student then
+                redis.call('HDEL', KEYS[1], slot)
+              end
+            end
+            for _, slot in ipairs(slots) do
+              redis.call('HSET', KEYS[1], slot, student)
+            end
+            redis.call('HSET', KEYS[1], 'student:' .. student, csv)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // ARGV: studentId, slot...
+    // 신청이 롤백되거나 컨슈머가 충돌로 거절한 선점만 풀고, 확정된 시간은 유지
+    private static final RedisScript<Long> RELEASE = RedisScript.of(FUNCTIONS + """
+            local expiresAt, _, leasedCsv = leaseOf(ARGV[1])
+            if expiresAt == nil then return 0 end
+            local slots = {}
+            for i = 2, #ARGV do table.insert(slots, ARGV[i]) end
+            if leasedCsv ~= table.concat(slots, ',') then return 0 end
+            dropLease(ARGV[1])
+            return 1
+            """, Long.class);
+
+    // ARGV: studentId
+    // 다른 교사로 옮긴 학생의 확정 시간을 이전 교사 키에서 제거. 선점은 유지
+    private static final RedisScript<Long> FORGET = RedisScript.of(FUNCTIONS + """
+            local student = ARGV[1]
+            local _, leased = leaseOf(student)
+            for slot in pairs(committedOf(student)) do
+              if not leased[slot] and redis.call('HGET', KEYS[1], slot) == student then
+                redis.call('HDEL', KEYS[1], slot)
+              end
+            end
+            redis.call('HDEL', KEYS[1], 'student:' .. student)
+            return 1
+            """, Long.class);
+
+    // ARGV: now, keyTtlMillis, force, (studentId, slotCsv)...
+    // 확정 데이터는 DB 기준으로 다시 쓰고, 살아 있는 선점만 유지. 확정된 시간이 선점보다 우선
+    private static final RedisScript<Long> LOAD = RedisScript.of(FUNCTIONS + """
+            if ARGV[3] == '0' and redis.call('HEXISTS', KEYS[1], 'loaded') == 1 then return 0 end
+            local now = tonumber(ARGV[1])
+            local leases = {}
+            for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+              if string.sub(field, 1, 6) == 'lease:' then
+                local sid = string.sub(field, 7)
+                local expiresAt, _, csv = leaseOf(sid)
+                if expiresAt > now then leases[sid] = expiresAt .. ':' .. csv end
+              end
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 4, #ARGV, 2 do
+              for slot in string.gmatch(ARGV[i + 1], '[^,]+') do
+                redis.call('HSET', KEYS[1], slot, ARGV[i])
+              end
+              redis.call('HSET', KEYS[1], 'student:' .. ARGV[i], ARGV[i + 1])
+            end
+            for sid, rec in pairs(leases) do
+              redis.call('HSET', KEYS[1], 'lease:' .. sid, rec)
+              local sep = string.find(rec, ':', 1, true)
+              for slot in string.gmatch(string.sub(rec, sep + 1), '[^,]+') do
+                if redis.call('HEXISTS', KEYS[1], slot) == 0 then redis.call('HSET', KEYS[1], slot, sid) end
+              end
+            end
+            redis.call('HSET', KEYS[1], 'loaded', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    @Value("${course.reservation.enabled:true}")
+    private boolean enabled;
+
+    // 컨슈머가 확정하지 못한 선점이 유지되는 시간
+    @Value("${course.reservation.lease-seconds:300}")
+    private long leaseSeconds;
+
+    private static final Duration KEY_TTL = Duration.ofDays(8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CourseJpaRepository courseJpaRepository;
+    private final DateProvider dateProvider;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void reserve(CourseRequestMessage courseMessage) {
+        if (!enabled) {
+            return;
+        }
+
+        int year = dateProvider.getCurrentYear();
+        int week = dateProvider.getCurrentWeek();
+        String key = key(year, week, courseMessage.getTeacherId());
+
+        List<String> args = new ArrayList<>();
+        args.add(courseMessage.getStudentId());
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(System.currentTimeMillis() + leaseSeconds * 1000));
+        args.add(String.valueOf(KEY_TTL.toMillis()));
+        args.addAll(slots(ScheduleSlotIndex.hoursOf(courseMessage)));
+
+        List<String> conflicts;
+        try {
+            conflicts = execute(RESERVE, key, args);
+
+            if (isMarker(conflicts)) {
+                load(key, courseMessage.getTeacherId(), year, week, EXPIRED.equals(conflicts.get(0)));
+                conflicts = execute(RESERVE, key, args);
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애 시 선점 없이 진행. 충돌은 컨슈머가 검증
+            log.warn("시간 선점 실패, 컨슈머 검증으로 대체. key = {}, reason = {}", key, e.getMessage());
+            return;
+        }
+
+        // 다시 적재한 사이에 다른 선점이 만료된 경우. 선점 없이 진행
+        if (isMarker(conflicts)) {
+            log.warn("시간 선점 생략, 컨슈머 검증으로 대체. key = {}", key);
+            return;
+        }
+
+        if (!conflicts.isEmpty()) {
+            meterRegistry.counter("course.reservation.conflicts").increment();
+            throw new DuplicateCourseException(
+                    String.format("Schedule conflict detected for teacher %s with existing students on same time slots %s",
+                            courseMessage.getTeacherName(), describe(conflicts))
+            );
+        }
+
+        applicationEventPublisher.publishEvent(new SlotReservedEvent(courseMessage, year, week));
+    }
+
+    // 선점 중이면 선점한 시간이, 아니면 확정된 시간이 같을 때 재제출
+    public boolean holds(CourseRequestMessage courseMessage) {
+        if (!enabled) {
+            return false;
+        }
+
+        String key = key(dateProvider.getCurrentYear(), dateProvider.getCurrentWeek(), courseMessage.getTeacherId());
+        String studentId = courseMessage.getStudentId();
+
+        List<Object> records;
+        try {
+            records = redisTemplate.opsForHash().multiGet(key, List.of("lease:" + studentId, "student:" + studentId));
+        } catch (DataAccessException e) {
+            return false;
+        }
+
+        Set<String> requested = new HashSet<>(slots(ScheduleSlotIndex.hoursOf(courseMessage)));
+
+        String lease = (String) records.get(0);
+        if (lease != null) {
+            int sep = lease.indexOf(':');
+            if (Long.parseLong(lease.substring(0, sep)) > System.currentTimeMillis()) {
+                return split(lease.substring(sep + 1)).equals(requested);
+            }
+        }
+
+        String committed = (String) records.get(1);
+        return committed != null && split(committed).equals(requested);
+    }
+
+    // 컨슈머 커밋 결과를 확정 데이터로 반영
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onScheduleChanged(CourseScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        StudentCourseResponse course = event.getStudentCourse();
+        String key = key(event.getCourseYear(), event.getWeekOfYear(), event.getTeacherId());
+
+        List<String> args = new ArrayList<>();
+        args.add(event.getStudentId());
+        args.add(String.valueOf(KEY_TTL.toMillis()));
+        args.addAll(slots(new int[]{
+                course.getMondayClassHour(), course.getTuesdayClassHour(), course.getWednesdayClassHour(),
+                course.getThursdayClassHour(), course.getFridayClassHour()
+        }));
+
+        try {
+            redisTemplate.execute(COMMIT, List.of(key), args.toArray());
+
+            if (event.getPreviousTeacherId() != null) {
+                redisTemplate.execute(FORGET,
+                        List.of(key(event.getCourseYear(), event.getWeekOfYear(), event.getPreviousTeacherId())),
+                        event.getStudentId());
+            }
+        } catch (DataAccessException e) {
+            log.warn("시간 선점 확정 반영 실패. key = {}, reason = {}", key, e.getMessage());
+        }
+    }
+
+    // 신청 트랜잭션이 롤백되면 outbox 가 없으므로 선점을 풀어 둠
+    @TransactionalEventListener(phase = AFTER_ROLLBACK)
+    public void onReservationRolledBack(SlotReservedEvent event) {
+        release(event.getCourseMessage(), event.getCourseYear(), event.getWeekOfYear());
+    }
+
+    // 컨슈머가 충돌로 거절한 신청의 선점을 풂
+    public void release(CourseRequestMessage courseMessage) {
+        release(courseMessage, dateProvider.getCurrentYear(), dateProvider.getCurrentWeek());
+    }
+
+    private void release(CourseRequestMessage courseMessage, int year, int week) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = key(year, week, courseMessage.getTeacherId());
+
+        List<String> args = new ArrayList<>();
+        args.add(courseMessage.getStudentId());
+        args.addAll(slots(ScheduleSlotIndex.hoursOf(courseMessage)));
+
+        try {
+            redisTemplate.execute(RELEASE, List.of(key), args.toArray());
+        } catch (DataAccessException e) {
+            // 풀지 못한 선점은 lease 만료 후 DB 기준으로 다시 적재됨
+            log.warn("시간 선점 해제 실패. key = {}, reason = {}", key, e.getMessage());
+        }
+    }
+
+    private void load(String key, String teacherId, int year, int week, boolean force) {
+        List<CourseSchedule> schedules = courseJpaRepository
+                .findAllCourseScheduleByTeacherIdAndCourseYearAndWeekOfYear(teacherId, year, week);
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(KEY_TTL.toMillis()));
+        args.add(force ? "1" : "0");
+
+        for (CourseSchedule schedule : schedules) {
+            args.add(schedule.getStudentId());
+            args.add(String.join(",", slots(ScheduleSlotIndex.hoursOf(schedule))));
+        }
+
+        redisTemplate.execute(LOAD, List.of(key), args.toArray());
+    }
+
+    private static boolean isMarker(List<String> result) {
+        return result.size() == 1 && (NOT_LOADED.equals(result.get(0)) || EXPIRED.equals(result.get(0)));
+    }
+
+    private static Set<String> split(String csv) {
+        return csv.isEmpty() ? Set.of() : Set.of(csv.split(","));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> execute(RedisScript<List> script, String key, List<String> args) {
+        List<String> result = redisTemplate.execute(script, List.of(key), args.toArray());
+        return result == null ? List.of() : result;
+    }
+
+    private static List<String> slots(int[] hours) {
+        List<String> slots = new ArrayList<>();
+        for (int day = 0; day < hours.length; day++) {
+            if (hours[day] != 0) {
+                slots.add(day + ":" + hours[day]);
+            }
+        }
+        return slots;
+    }
+
+    // "0:1=student_001" -> "MONDAY:1(student_001)"
+    private static List<String> describe(List<String> conflicts) {
+        return conflicts.stream()
+                .map(conflict -> {
+                    int colon = conflict.indexOf(':');
+                    int equals = conflict.indexOf('=');
+                    Day day = DAYS[Integer.parseInt(conflict.substring(0, colon))];
+                    return day + ":" + conflict.substring(colon + 1, equals) + "(" + conflict.substring(equals + 1) + ")";
+                })
+                .toList();
+    }
+
+    private static String key(Integer year, Integer week, String teacherId) {
+        return KEY_PREFIX + year + ":" + week + ":" + teacherId;
+    }
+}
@@ -0,0 +1,118 @@
+package com.scheduler.courseservice.course.service;
+
+import com.scheduler.courseservice.course.domain.CourseSchedule;
+import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 교사 주간 점유 현황. hash courseSlots:{year}:{week}:teacher:{teacherId}, studentId -> pack 된 주간 시간
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklySlotSnapshot {
+
+    private static final String KEY_PREFIX = "courseSlots:";
+    // DB 에서 한 번 적재된 주차인지 표시. 적재 전에 갱신된 학생 필드만 있는 hash 와 구분
+    private static final String LOADED_FIELD = "@loaded";
+    private static final Duration TTL = Duration.ofDays(8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CourseJpaRepository courseJpaRepository;
+
+    public Map<String, Integer> findTeacherWeek(String teacherId, int year, int week) {
+        String key = key(teacherId, year, week);
+
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(key);
+        } catch (DataAccessException e) {
+            log.warn("주간 점유 현황 조회 실패, DB 조회로 대체. key = {}, reason = {}", key, e.getMessage());
+            return loadFromDb(teacherId, year, week);
+        }
+
+        if (entries.containsKey(LOADED_FIELD)) {
+            return toPacked(entries);
+        }
+
+        Map<String, Integer> packedHours = loadFromDb(teacherId, year, week);
+
+        try {
+            // 적재 중 커밋된 갱신이 있으면 그 값을 유지
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+                packedHours.forEach((studentId, packed) ->
+                        stringConnection.hSetNX(key, studentId, String.valueOf(packed)));
+                stringConnection.hSet(key, LOADED_FIELD, "1");
+                stringConnection.expire(key, TTL.toSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("주간 점유 현황 적재 실패. key = {}, reason = {}", key, e.getMessage());
+        }
+
+        packedHours.putAll(toPacked(entries));
+        return packedHours;
+    }
+
+    // 커밋된 학생 한 명의 시간만 갱신
+    public void update(String teacherId, int year, int week, String studentId, int[] hours) {
+        String key = key(teacherId, year, week);
+
+        try {
+            redisTemplate.opsForHash().put(key, studentId, String.valueOf(ScheduleSlotIndex.pack(hours)));
+            redisTemplate.expire(key, TTL);
+        } catch (DataAccessException e) {
+            // 오래된 값으로 충돌 검사하지 않도록 다음 조회에서 DB 로 다시 적재
+            log.warn("주간 점유 현황 갱신 실패, 삭제 후 재적재. key = {}, reason = {}", key, e.getMessage());
+            redisTemplate.delete(key);
+        }
+    }
+
+    // 다른 교사로 옮긴 학생을 이전 교사의 점유 현황에서 제거
+    public void remove(String teacherId, int year, int week, String studentId) {
+        String key = key(teacherId, year, week);
+
+        try {
+            redisTemplate.opsForHash().delete(key, studentId);
+        } catch (DataAccessException e) {
+            log.warn("주간 점유 현황 제거 실패, 삭제 후 재적재. key = {}, reason = {}", key, e.getMessage());
+            redisTemplate.delete(key);
+        }
+    }
+
+    private Map<String, Integer> loadFromDb(String teacherId, int year, int week) {
+        List<CourseSchedule> schedules = courseJpaRepository
+                .findAllCourseScheduleByTeacherIdAndCourseYearAndWeekOfYear(teacherId, year, week);
+
+        Map<String, Integer> packedHours = new HashMap<>();
+        for (CourseSchedule schedule : schedules) {
+            packedHours.put(schedule.getStudentId(), ScheduleSlotIndex.pack(ScheduleSlotIndex.hoursOf(schedule)));
+        }
+        return packedHours;
+    }
+
+    private static Map<String, Integer> toPacked(Map<Object, Object> entries) {
+        Map<String, Integer> packedHours = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                packedHours.put((String) field, Integer.parseInt((String) value));
+            }
+        });
+        return packedHours;
+    }
+
+    private static String key(String teacherId, int year, int week) {
+        return KEY_PREFIX + year + ":" + week + ":teacher:" + teacherId;
+    }
+}
@@ -3,6 +3,7 @@ package com.scheduler.courseservice.infra.config.messaging;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,8 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.MAX_BLOCK_MS_CONFIG;
 
 @Configuration
 @RequiredArgsConstructor
@@ -26,10 +29,20 @@ public class KafkaConfig {
 
     private final KafkaProperties kafkaProperties;
 
+    // 아웃박스 묶음 발행 시 같은 파티션 레코드를 모아 보내는 대기 시간
+    @Value("${course.outbox.publish.linger-ms:5}")
+    private int lingerMs;
+
+    // 브로커 장애 시 send 가 메타데이터, 버퍼를 기다리며 막히는 최대 시간
+    @Value("${course.outbox.publish.max-block-ms:10000}")
+    private int maxBlockMs;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
         Map<String, Object> props = kafkaProperties.getProducer().buildProperties(null);
         props.putIfAbsent(BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.putIfAbsent(LINGER_MS_CONFIG, lingerMs);
+        props.putIfAbsent(MAX_BLOCK_MS_CONFIG, maxBlockMs);
 
         DefaultKafkaProducerFactory<String, String> factory = new DefaultKafkaProducerFactory<>(props);
 
@@ -40,7 +53,10 @@ public class KafkaConfig {
 
     @Bean
     public KafkaTemplate<String, String> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+        // 커밋 직후 아웃박스 발행은 트랜잭션 없이 멱등 프로듀서로 비동기 전송
+        kafkaTemplate.setAllowNonTransactional(true);
+        return kafkaTemplate;
     }
 
     @Bean
@@ -66,18 +82,20 @@ public class KafkaConfig {
         return factory;
     }
 
+    // 커밋 직후 전송과 완료 콜백의 아웃박스 삭제를 수행. 대기 건수는 MessageRelay 의 in-flight 한도로 묶임
     @Bean
     public Executor messageRelayPublishEventExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(20);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setThreadNamePrefix("outbox-ack-");
         return executor;
     }
 
+    // 아웃박스 폴링 루프 전용 스레드
     @Bean
     public Executor messageRelayPublishPendingEventExecutor() {
-        return Executors.newSingleThreadScheduledExecutor();
+        return Executors.newSingleThreadExecutor();
     }
 
 }
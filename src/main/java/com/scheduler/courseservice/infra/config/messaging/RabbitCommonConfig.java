@@ -1,15 +1,25 @@
 package com.scheduler.courseservice.infra.config.messaging;
 
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitCommonConfig {
 
+    @Value("${course.rabbit.batch-size:100}")
+    private int batchSize;
+
+    // 배치가 다 차지 않아도 이 시간이 지나면 모인 만큼 전달
+    @Value("${course.rabbit.batch-receive-timeout-millis:500}")
+    private long batchReceiveTimeoutMillis;
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -21,4 +31,19 @@ public class RabbitCommonConfig {
         rabbitTemplate.setMessageConverter(jsonMessageConverter());
         return rabbitTemplate;
     }
+
+    // 이름 변경처럼 몰려서 들어오는 메시지를 묶어서 처리하고 마지막 태그로 한 번에 ack
+    @Bean
+    public SimpleRabbitListenerContainerFactory rabbitBatchListenerContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(batchReceiveTimeoutMillis);
+        return factory;
+    }
 }
@@ -0,0 +1,78 @@
+package com.scheduler.courseservice.infra.config.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 인스턴스 로컬 캐시 무효화 메시지를 Redis pub/sub 으로 전파
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "courseCache:invalidation";
+
+    private static final String SEPARATOR = "\n";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, List<LocalInvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate redisTemplate;
+
+    public interface LocalInvalidationListener {
+
+        void evictLocal(String key);
+
+        void clearLocal();
+    }
+
+    public void register(String cacheName, LocalInvalidationListener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        publish(instanceId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(instanceId + SEPARATOR + cacheName);
+    }
+
+    // 전파 실패는 로컬 캐시 TTL 로 보완. 쓰기 요청을 실패시키지 않음
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 전파 실패. message = {}, reason = {}", message, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+
+        // 자신이 보낸 메시지는 이미 로컬에 반영됨
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        for (LocalInvalidationListener listener : listeners.getOrDefault(parts[1], List.of())) {
+            if (parts.length == 2) {
+                listener.clearLocal();
+            } else {
+                listener.evictLocal(parts[2]);
+            }
+        }
+    }
+}
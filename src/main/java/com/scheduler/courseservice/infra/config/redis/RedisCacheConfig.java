@@ -1,12 +1,17 @@
 package com.scheduler.courseservice.infra.config.redis;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -19,14 +24,49 @@ import static org.springframework.data.redis.serializer.RedisSerializationContex
 @EnableCaching
 public class RedisCacheConfig {
 
+    @Value("${course.cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${course.cache.local.expire-after-write-minutes:30}")
+    private long localExpireAfterWriteMinutes;
+
+    @Bean
+    public CacheManager courseCacheManager(
+            RedisConnectionFactory redisConnectionFactory,
+            CacheInvalidationBus cacheInvalidationBus,
+            SingleFlight singleFlight
+    ) {
+        return new TwoLevelCacheManager(
+                redisCacheManager(redisConnectionFactory),
+                cacheInvalidationBus,
+                singleFlight,
+                localMaximumSize,
+                Duration.ofMinutes(localExpireAfterWriteMinutes)
+        );
+    }
+
     @Bean
-    public CacheManager courseCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            CacheInvalidationBus cacheInvalidationBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(fromSerializer(new Jackson2JsonRedisSerializer<>(Object.class)))
                 .entryTtl(Duration.ofDays(7));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        // 패턴 삭제, clear 는 KEYS 대신 SCAN 으로 키를 찾음
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                redisConnectionFactory, BatchStrategies.scan(1000));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("allStudentCourses",
                         RedisCacheConfiguration.defaultCacheConfig()
@@ -41,6 +81,10 @@ public class RedisCacheConfig {
                                 .entryTtl(Duration.ofDays(7))
                                 .serializeValuesWith(fromSerializer(new GenericJackson2JsonRedisSerializer())))
                 .build();
+
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 
 }
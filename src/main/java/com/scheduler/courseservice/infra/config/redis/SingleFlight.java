@@ -0,0 +1,108 @@
+package com.scheduler.courseservice.infra.config.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// 같은 키의 동시 캐시 미스를 하나의 로더 실행으로 합침
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private static final String METRIC_NAME = "course.cache.single.flight";
+
+    // 인스턴스 간에도 로더를 하나로 줄일지 여부
+    @Value("${course.cache.single-flight.distributed:false}")
+    private boolean distributed;
+
+    @Value("${course.cache.single-flight.lock-wait-millis:3000}")
+    private long lockWaitMillis;
+
+    @Value("${course.cache.single-flight.lock-lease-millis:10000}")
+    private long lockLeaseMillis;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    // loader 는 진입 시 L2 를 다시 확인해야 함. 분산 락 대기 중 다른 인스턴스가 채웠을 수 있음
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String cacheName, String key, Supplier<T> loader) {
+        String flightKey = cacheName + "::" + key;
+
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, call);
+
+        if (running != null) {
+            meterRegistry.counter(METRIC_NAME, "cache", cacheName, "result", "coalesced").increment();
+            return (T) await(running);
+        }
+
+        meterRegistry.counter(METRIC_NAME, "cache", cacheName, "result", "leader").increment();
+
+        try {
+            T value = distributed ? loadWithLock(cacheName, flightKey, loader) : loader.get();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, call);
+        }
+    }
+
+    private <T> T loadWithLock(String cacheName, String flightKey, Supplier<T> loader) {
+        RLock lock = redissonClient.getLock("singleFlight:" + flightKey);
+        boolean locked = false;
+
+        try {
+            locked = lock.tryLock(lockWaitMillis, lockLeaseMillis, MILLISECONDS);
+            if (!locked) {
+                // 락을 못 잡아도 조회는 진행. 캐시 적재보다 응답이 우선
+                meterRegistry.counter(METRIC_NAME, "cache", cacheName, "result", "lock_timeout").increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("single flight 락 획득 실패. key = {}, reason = {}", flightKey, e.getMessage());
+        }
+
+        try {
+            return loader.get();
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.scheduler.courseservice.infra.config.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// L1: 인스턴스 로컬 Caffeine, L2: Redis
+// L2 를 읽는 사이 무효화가 오면 읽은 값을 L1 에 남기지 않음. 무효화 횟수를 키 해시 구간별로 세어 비교
+public class TwoLevelCache implements org.springframework.cache.Cache, CacheInvalidationBus.LocalInvalidationListener {
+
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final SingleFlight singleFlight;
+
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    private final AtomicLong clears = new AtomicLong();
+
+    public TwoLevelCache(
+            String name,
+            Cache<String, ValueWrapper> local,
+            org.springframework.cache.Cache remote,
+            CacheInvalidationBus invalidationBus,
+            SingleFlight singleFlight
+    ) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = version(localKey);
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            putLocal(localKey, loaded, version);
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        long version = version(localKey);
+
+        // @Cacheable(sync = true) 미스는 키마다 로더 하나만 실행
+        T value = singleFlight.execute(name, localKey, () -> {
+            ValueWrapper loaded = remote.get(key);
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+
+            T created;
+            try {
+                created = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            remote.put(key, created);
+            return created;
+        });
+
+        putLocal(localKey, new SimpleValueWrapper(value), version);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        invalidateLocal(localKey);
+        local.put(localKey, new SimpleValueWrapper(value));
+        invalidationBus.publishEvict(name, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        invalidateLocal(localKey(key));
+
+        if (existing == null) {
+            invalidationBus.publishEvict(name, key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        invalidateLocal(localKey(key));
+        invalidationBus.publishEvict(name, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        invalidateLocal(localKey(key));
+        invalidationBus.publishEvict(name, key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        invalidateAllLocal();
+        invalidationBus.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        invalidateAllLocal();
+        invalidationBus.publishClear(name);
+        return invalidated;
+    }
+
+    // Redis glob 패턴에 맞는 키만 삭제. L1 은 키를 패턴으로 고르기보다 통째로 비우고 L2 에서 다시 읽음
+    public void evictMatching(String keyPattern) {
+        if (remote instanceof RedisCache redisCache) {
+            redisCache.clear(keyPattern);
+        } else {
+            remote.clear();
+        }
+        invalidateAllLocal();
+        invalidationBus.publishClear(name);
+    }
+
+    @Override
+    public void evictLocal(String key) {
+        invalidateLocal(key);
+    }
+
+    @Override
+    public void clearLocal() {
+        invalidateAllLocal();
+    }
+
+    // 무효화는 횟수를 먼저 올리고 L1 을 지움
+    private void invalidateLocal(String localKey) {
+        invalidations.incrementAndGet(stripe(localKey));
+        local.invalidate(localKey);
+    }
+
+    private void invalidateAllLocal() {
+        clears.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    // 넣은 뒤 다시 확인해, 확인과 put 사이에 온 무효화도 놓치지 않음
+    private void putLocal(String localKey, ValueWrapper value, long version) {
+        if (version(localKey) != version) {
+            return;
+        }
+
+        local.put(localKey, value);
+
+        if (version(localKey) != version) {
+            local.invalidate(localKey);
+        }
+    }
+
+    private long version(String localKey) {
+        return clears.get() + invalidations.get(stripe(localKey));
+    }
+
+    private static int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), INVALIDATION_STRIPES);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
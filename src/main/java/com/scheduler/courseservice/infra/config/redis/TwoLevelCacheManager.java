@@ -0,0 +1,68 @@
+package com.scheduler.courseservice.infra.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis 캐시 앞에 인스턴스 로컬 캐시를 둔 CacheManager
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final SingleFlight singleFlight;
+    private final long localMaximumSize;
+    private final Duration localExpireAfterWrite;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            CacheInvalidationBus invalidationBus,
+            SingleFlight singleFlight,
+            long localMaximumSize,
+            Duration localExpireAfterWrite
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.singleFlight = singleFlight;
+        this.localMaximumSize = localMaximumSize;
+        this.localExpireAfterWrite = localExpireAfterWrite;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, cacheName -> {
+            TwoLevelCache created = new TwoLevelCache(cacheName, newLocalCache(), remote, invalidationBus, singleFlight);
+            invalidationBus.register(cacheName, created);
+            return created;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    // 무효화 메시지 유실에 대비해 쓰기 후 만료를 함께 둠
+    private com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> newLocalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localExpireAfterWrite)
+                .build();
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -20,6 +22,9 @@ public class QueryConfig {
     @PersistenceContext
     private EntityManager em;
 
+    @Value("${course.jpa.batch-size:100}")
+    private int batchSize;
+
     @Bean
     public JPAQueryFactory jpaQueryFactory(){
         {
@@ -27,6 +32,16 @@ public class QueryConfig {
         }
     }
 
+    // id 를 애플리케이션에서 발급하므로 insert, update 를 JDBC 배치로 전송
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+        };
+    }
+
     @Bean(name = "transactionManager")
     @Primary
     public PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
@@ -1,6 +1,9 @@
 package com.scheduler.courseservice.infra.config.setting;
 
+import com.scheduler.courseservice.infra.exception.custom.CourseOverloadedException;
+import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.common.circuitbreaker.configuration.CircuitBreakerConfigCustomizer;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
@@ -35,4 +38,11 @@ public class Resilience4JConfig {
                 .circuitBreakerConfig(circuitBreakerConfig)
                 .build());
     }
+
+    // 시간 충돌과 과부하 거절은 정상적인 거절이므로 실패율에 포함하지 않음
+    @Bean
+    public CircuitBreakerConfigCustomizer studentServiceCircuitBreakerCustomizer() {
+        return CircuitBreakerConfigCustomizer.of("studentService",
+                builder -> builder.ignoreExceptions(DuplicateCourseException.class, CourseOverloadedException.class));
+    }
 }
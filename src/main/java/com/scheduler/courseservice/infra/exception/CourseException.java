@@ -1,15 +1,20 @@
 package com.scheduler.courseservice.infra.exception;
 
+import com.scheduler.courseservice.infra.exception.custom.CourseOverloadedException;
 import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
+import com.scheduler.courseservice.infra.exception.custom.InvalidCursorException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.NoSuchElementException;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
 @Slf4j
 @RestControllerAdvice
@@ -24,4 +29,16 @@ public class CourseException {
     public ResponseEntity<String> handleDuplicateCourseException(DuplicateCourseException e) {
         return new ResponseEntity<>(e.getMessage(), FORBIDDEN);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException e) {
+        return new ResponseEntity<>(e.getMessage(), BAD_REQUEST);
+    }
+
+    @ExceptionHandler(CourseOverloadedException.class)
+    public ResponseEntity<String> handleCourseOverloadedException(CourseOverloadedException e) {
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
 }
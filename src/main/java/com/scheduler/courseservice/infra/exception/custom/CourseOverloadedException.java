@@ -0,0 +1,14 @@
+package com.scheduler.courseservice.infra.exception.custom;
+
+import lombok.Getter;
+
+@Getter
+public class CourseOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public CourseOverloadedException(long retryAfterSeconds) {
+        super("수업 신청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
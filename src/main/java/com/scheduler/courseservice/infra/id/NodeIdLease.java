@@ -0,0 +1,157 @@
+package com.scheduler.courseservice.infra.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// TimeOrderedIdGenerator 의 노드 id. 인스턴스끼리 겹치면 같은 id(와 outbox 멱등성 키)가 발급되므로 임의 값은 쓰지 않음
+// course.id.node-id(COURSE_ID_NODE_ID) 가 있으면 그 번호를, 없으면 빈 번호를 Redis 에서 TTL 로 임대해 연장
+// 설정값도 임대해 두 인스턴스에 같은 번호를 준 실수를 막음. 임대하지 못하면 기동 실패
+// 연장을 확인하지 못한 채 만료가 가까워지면 발급을 멈춤
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NodeIdLease {
+
+    private static final String KEY_PREFIX = "courseIdNode:";
+    private static final String CURSOR_KEY = KEY_PREFIX + "cursor";
+
+    // 같은 JVM 의 컨텍스트는 생성기를 공유하므로 토큰도 공유
+    private static final String TOKEN = UUID.randomUUID().toString();
+
+    // 내 임대면 연장, 만료돼 비어 있으면 다시 차지. 다른 인스턴스가 가져갔으면 0
+    private static final RedisScript<Long> RENEW = RedisScript.of("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner and owner ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    @Value("${course.id.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${course.id.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${course.id.renew-millis:15000}")
+    private long renewMillis;
+
+    private long leasedNodeId = -1L;
+    private long leaseUntil;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @PostConstruct
+    void init() {
+        if (renewMillis * 2 > Duration.ofSeconds(leaseSeconds).toMillis()) {
+            throw new IllegalStateException("course.id.renew-millis 는 lease 의 절반 이하여야 합니다.");
+        }
+
+        lease();
+    }
+
+    // 종료 중에도 같은 JVM 의 다른 컨텍스트가 쓸 수 있으므로 발급은 멈추지 않고 임대만 반납
+    @PreDestroy
+    synchronized void close() {
+        if (leasedNodeId < 0) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + leasedNodeId), TOKEN);
+        } catch (DataAccessException e) {
+            log.warn("노드 id 반납 실패, TTL 로 만료됨. nodeId = {}", leasedNodeId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${course.id.renew-millis:15000}")
+    public synchronized void renew() {
+        long now = System.currentTimeMillis();
+
+        try {
+            if (leasedNodeId < 0) {
+                lease();
+                return;
+            }
+
+            Long renewed = redisTemplate.execute(RENEW, List.of(KEY_PREFIX + leasedNodeId),
+                    TOKEN, String.valueOf(Duration.ofSeconds(leaseSeconds).toMillis()));
+
+            if (Long.valueOf(1L).equals(renewed)) {
+                leaseUntil = now + Duration.ofSeconds(leaseSeconds).toMillis();
+                return;
+            }
+
+            log.error("노드 id 임대를 다른 인스턴스가 가져감. 다시 임대. nodeId = {}", leasedNodeId);
+            TimeOrderedIdGenerator.revokeNodeId();
+            leasedNodeId = -1L;
+            lease();
+        } catch (RuntimeException e) {
+            // 다음 연장 전에 만료될 수 있으면 다른 인스턴스가 같은 번호를 받을 수 있으므로 발급을 멈춤
+            if (leasedNodeId >= 0 && now + renewMillis >= leaseUntil) {
+                log.error("노드 id 임대를 연장하지 못해 id 발급 중지. nodeId = {}", leasedNodeId, e);
+                TimeOrderedIdGenerator.revokeNodeId();
+                leasedNodeId = -1L;
+            } else {
+                log.warn("노드 id 임대 연장 실패. reason = {}", e.getMessage());
+            }
+        }
+    }
+
+    // 설정값이 있으면 그 번호만, 없으면 커서부터 돌며 비어 있는 번호를 차지
+    private void lease() {
+        long now = System.currentTimeMillis();
+        String ttlMillis = String.valueOf(Duration.ofSeconds(leaseSeconds).toMillis());
+
+        for (long nodeId : candidates()) {
+            if (Long.valueOf(1L).equals(redisTemplate.execute(RENEW, List.of(KEY_PREFIX + nodeId), TOKEN, ttlMillis))) {
+                leasedNodeId = nodeId;
+                leaseUntil = now + Duration.ofSeconds(leaseSeconds).toMillis();
+                TimeOrderedIdGenerator.assignNodeId(nodeId);
+                log.info("노드 id = {}", nodeId);
+                return;
+            }
+        }
+
+        throw new IllegalStateException(configuredNodeId.isBlank()
+                ? "임대할 수 있는 노드 id 가 없습니다. course.id.node-id 를 설정하세요."
+                : "course.id.node-id = " + configuredNodeId.trim() + " 를 다른 인스턴스가 사용 중입니다.");
+    }
+
+    private long[] candidates() {
+        if (!configuredNodeId.isBlank()) {
+            long nodeId = Long.parseLong(configuredNodeId.trim());
+            if (nodeId < 0 || nodeId > TimeOrderedIdGenerator.MAX_NODE_ID) {
+                throw new IllegalStateException(
+                        "course.id.node-id 는 0 ~ " + TimeOrderedIdGenerator.MAX_NODE_ID + " 사이여야 합니다. nodeId = " + nodeId);
+            }
+            return new long[]{nodeId};
+        }
+
+        long nodeCount = TimeOrderedIdGenerator.MAX_NODE_ID + 1;
+        Long cursor = redisTemplate.opsForValue().increment(CURSOR_KEY);
+        long start = cursor == null ? 0L : cursor;
+
+        long[] candidates = new long[(int) nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            candidates[i] = Math.floorMod(start + i, nodeCount);
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,86 @@
+package com.scheduler.courseservice.infra.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+// 41bit 밀리초 | 10bit 노드 | 12bit 시퀀스
+// 노드 id 는 NodeIdLease 가 기동 시 할당. 할당 전이나 임대를 잃은 뒤에는 발급하지 않음
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final long UNASSIGNED = -1L;
+
+    // 발급된 id 는 모두 이 값 이상. IDENTITY 로 쌓인 이전 id 는 이보다 작아 EPOCH 부근 시각으로 읽힘
+    public static final long MIN_ISSUED_ID = minIdAt(EPOCH + 86_400_000L);
+
+    private static long nodeId = UNASSIGNED;
+    private static long lastTimestamp = -1L;
+    private static long sequence = 0L;
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType
+    ) {
+        return nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    // 시계가 뒤로 가거나 시퀀스가 넘치면 논리 시각을 앞당겨 단조 증가 유지
+    public static synchronized long nextId() {
+        if (nodeId == UNASSIGNED) {
+            throw new IllegalStateException("노드 id 가 할당되지 않아 id 를 발급할 수 없습니다.");
+        }
+
+        long now = System.currentTimeMillis() - EPOCH;
+
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0L;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0L) {
+                lastTimestamp++;
+            }
+        }
+
+        return (lastTimestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // id 가 발급된 시각 (epoch millis)
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    // 주어진 시각 이후에 발급된 id 는 모두 이 값 이상
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0L, epochMillis - EPOCH) << TIMESTAMP_SHIFT;
+    }
+
+    static synchronized void assignNodeId(long assigned) {
+        if (assigned < 0 || assigned > MAX_NODE_ID) {
+            throw new IllegalStateException("노드 id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId = " + assigned);
+        }
+        nodeId = assigned;
+    }
+
+    static synchronized void revokeNodeId() {
+        nodeId = UNASSIGNED;
+    }
+}
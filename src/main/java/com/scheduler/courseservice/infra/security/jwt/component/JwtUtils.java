@@ -51,7 +51,8 @@ public class JwtUtils {
         return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 
-    private Claims getPayload(String token) {
+    // 서명 검증 후 클레임 반환. Bearer 접두사는 호출 측에서 제거
+    public Claims getPayload(String token) {
         return Jwts.parser()
                 .verifyWith(signingKey)
                 .build()
@@ -0,0 +1,19 @@
+package com.scheduler.courseservice.outbox.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// bloom 저장소의 정확한 처리 기록. 저장은 ConsumedMessageRepository 가 직접 수행
+// 키가 시간순이라 PK 범위로 오래된 기록을 지움
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class ConsumedMessage {
+
+    @Id
+    private Long idempotency;
+}
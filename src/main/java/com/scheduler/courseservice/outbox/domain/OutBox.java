@@ -1,44 +1,79 @@
 package com.scheduler.courseservice.outbox.domain;
 
+import com.scheduler.courseservice.infra.id.TimeOrderedId;
+import com.scheduler.courseservice.infra.id.TimeOrderedIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.DynamicUpdate;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
 
 import static jakarta.persistence.EnumType.STRING;
-import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
 @DynamicUpdate
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_out_box_status_lease", columnList = "status, leaseUntil")
+})
 public class OutBox extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
+    // 시간순 64bit 키. 유니크 인덱스에 항상 뒤쪽으로 추가됨
+    // 인스턴스 간 유일성은 NodeIdLease 가 보장하는 노드 id 에 기댐. 노드 id 가 없으면 저장 자체가 실패
     @Column(unique = true)
-    private String idempotency;
+    private Long idempotency;
 
     @Enumerated(STRING)
     private EventType eventType;
 
+    // null 이면 JSON. 이 컬럼이 생기기 전의 행
+    @Enumerated(STRING)
+    private PayloadCodec codec;
+
     @Lob
     private String payload;
 
-    public static OutBox create(EventType eventType, String payload) {
+    private String partitionKey;
+
+    @Enumerated(STRING)
+    private OutBoxStatus status;
+
+    // IN_FLIGHT 가 이 시각까지 끝나지 않으면 다른 인스턴스가 다시 가져감
+    private LocalDateTime leaseUntil;
+
+    public static OutBox create(EventType eventType, String payload, String partitionKey) {
+        return create(eventType, PayloadCodec.JSON, payload, partitionKey);
+    }
+
+    public static OutBox create(EventType eventType, PayloadCodec codec, String payload, String partitionKey) {
         OutBox outBox = new OutBox();
         outBox.eventType = eventType;
+        outBox.codec = codec;
         outBox.payload = payload;
+        outBox.partitionKey = partitionKey;
+        outBox.status = OutBoxStatus.PENDING;
         return outBox;
     }
 
+    // 커밋 직후 발행할 인스턴스가 lease 를 잡은 채로 저장
+    public void lease(LocalDateTime leaseUntil) {
+        this.status = OutBoxStatus.IN_FLIGHT;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public String eventTypeHeader() {
+        return (codec == null ? PayloadCodec.JSON : codec).header(eventType);
+    }
+
     @PrePersist
     void createKey() {
-        idempotency = UUID.randomUUID().toString();
+        idempotency = TimeOrderedIdGenerator.nextId();
     }
 }
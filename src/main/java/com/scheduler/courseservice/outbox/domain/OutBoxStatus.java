@@ -0,0 +1,7 @@
+package com.scheduler.courseservice.outbox.domain;
+
+// PENDING: 발행 대기, IN_FLIGHT: 한 인스턴스가 lease 동안 발행 중
+public enum OutBoxStatus {
+
+    PENDING, IN_FLIGHT
+}
@@ -0,0 +1,39 @@
+package com.scheduler.courseservice.outbox.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 페이로드 인코딩. Event-Type 헤더에 "CREATED;codec=bin1" 처럼 붙이고, 없으면 JSON
+@Getter
+@RequiredArgsConstructor
+public enum PayloadCodec {
+
+    JSON(null), BIN1("bin1");
+
+    private static final String CODEC_PARAM = ";codec=";
+
+    private final String token;
+
+    public String header(EventType eventType) {
+        return token == null ? eventType.name() : eventType.name() + CODEC_PARAM + token;
+    }
+
+    public static PayloadCodec fromHeader(String eventTypeHeader) {
+        if (eventTypeHeader == null) {
+            return JSON;
+        }
+
+        int at = eventTypeHeader.indexOf(CODEC_PARAM);
+        if (at < 0) {
+            return JSON;
+        }
+
+        String token = eventTypeHeader.substring(at + CODEC_PARAM.length());
+        for (PayloadCodec codec : values()) {
+            if (token.equals(codec.token)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 codec 입니다. codec = " + token);
+    }
+}
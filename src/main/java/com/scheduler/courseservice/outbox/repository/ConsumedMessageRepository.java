@@ -0,0 +1,68 @@
+package com.scheduler.courseservice.outbox.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ConsumedMessageRepository {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO consumed_message (idempotency) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이미 있는 키면 false
+    public boolean insert(long idempotency) {
+        return jdbcTemplate.update(INSERT_SQL, idempotency) == 1;
+    }
+
+    // 새로 들어간 키만 반환. 행마다 결과가 필요하므로 rewriteBatchedStatements 로 묶이면 실패
+    public Set<Long> insertAll(Collection<Long> idempotencies) {
+        if (idempotencies.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> keys = List.copyOf(idempotencies);
+        List<Object[]> batchArgs = keys.stream()
+                .map(idempotency -> new Object[]{idempotency})
+                .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+
+        Set<Long> inserted = new HashSet<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("consumed_message INSERT 의 행별 결과를 알 수 없습니다. rewriteBatchedStatements 를 끄세요.");
+            }
+            if (updated[i] == 1) {
+                inserted.add(keys.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    public void deleteAll(Collection<Long> idempotencies) {
+        if (idempotencies.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = idempotencies.stream()
+                .map(idempotency -> new Object[]{idempotency})
+                .toList();
+
+        jdbcTemplate.batchUpdate("DELETE FROM consumed_message WHERE idempotency = ?", batchArgs);
+    }
+
+    // minIdempotency 보다 작은 키를 limit 단위로 나눠 삭제. 삭제한 행 수를 반환
+    public int deleteBefore(long minIdempotency, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM consumed_message WHERE idempotency < ? LIMIT ?", minIdempotency, limit);
+    }
+}
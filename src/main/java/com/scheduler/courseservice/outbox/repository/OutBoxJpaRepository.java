@@ -2,8 +2,55 @@ package com.scheduler.courseservice.outbox.repository;
 
 import com.scheduler.courseservice.outbox.domain.OutBox;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OutBoxJpaRepository extends JpaRepository<OutBox, Long> {
+
+    // 다른 인스턴스가 잠근 행은 건너뛰어 인스턴스마다 겹치지 않는 묶음을 가져감
+    // status 가 NULL 인 행은 lease 도입 전에 쌓인 발행 대기 행
+    @Query(value = """
+            SELECT * FROM out_box
+            WHERE status = 'PENDING' OR status IS NULL OR lease_until < :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutBox> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            update OutBox o
+            set o.status = com.scheduler.courseservice.outbox.domain.OutBoxStatus.IN_FLIGHT, o.leaseUntil = :leaseUntil
+            where o.id in :ids
+            """)
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("delete from OutBox o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+            update OutBox o
+            set o.status = com.scheduler.courseservice.outbox.domain.OutBoxStatus.PENDING, o.leaseUntil = null
+            where o.id in :ids
+            """)
+    int release(@Param("ids") Collection<Long> ids);
+
+    // id 는 시간순이므로 가장 작은 id 가 가장 오래된 행. PK 인덱스 범위의 첫 항목만 읽음
+    @Query("select min(o.id) from OutBox o where o.id >= :minId")
+    Optional<Long> findMinIdFrom(@Param("minId") long minId);
+
+    // IDENTITY 로 쌓인 이전 행은 id 로 시각을 알 수 없어 생성 시각을 봄. 남은 이전 행만 PK 범위로 훑음
+    @Query("select min(o.createdAt) from OutBox o where o.id < :minId")
+    Optional<LocalDateTime> findMinCreatedAtBefore(@Param("minId") long minId);
 }
@@ -0,0 +1,235 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.infra.id.TimeOrderedIdGenerator;
+import com.scheduler.courseservice.outbox.repository.ConsumedMessageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static java.time.format.DateTimeFormatter.BASIC_ISO_DATE;
+
+// 일 단위 bloom bitmap {idemBloom}:{yyyyMMdd} 로 처음 보는 키를 걸러내고, 본 적 있을 수 있는 키만 consumed_message 로 정확히 확인
+// Redis 사용량은 bitmap 크기 x 보관 일수로 고정. 이전 UUID 키 기록은 첫 정리 때 함께 지워짐
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "course.idempotency.store", havingValue = "bloom")
+public class BloomIdempotencyService implements IdempotencyService {
+
+    private static final String KEY_PREFIX = "{idemBloom}:";
+    private static final int PURGE_BATCH_SIZE = 10_000;
+    private static final long MAX_BITS = 1L << 32;
+
+    // KEYS: 오늘 버킷, 이전 버킷... ARGV: ttlSeconds, hashCount, 키마다 (확인할 버킷 수, hashCount 개의 offset)
+    // 결과는 키마다 1(확인한 버킷 중 하나에서 모든 bit 가 켜져 있음) 또는 0. 확인 후 오늘 버킷에 bit 를 켬
+    private static final RedisScript<List> CHECK_AND_ADD = RedisScript.of("""
+            local k = tonumber(ARGV[2])
+            local result = {}
+            for base = 3, #ARGV, k + 1 do
+              local seen = 0
+              for b = 1, tonumber(ARGV[base]) do
+                local all = 1
+                for i = base + 1, base + k do
+                  if redis.call('GETBIT', KEYS[b], ARGV[i]) == 0 then all = 0 break end
+                end
+                if all == 1 then seen = 1 break end
+              end
+              for i = base + 1, base + k do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+              end
+              table.insert(result, seen)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return result
+            """, List.class);
+
+    // 하루 예상 메시지 수와 오탐률로 bitmap 크기를 정함. 오탐은 DB 확인 한 번으로 끝남
+    @Value("${course.idempotency.bloom.expected-per-day:1000000}")
+    private long expectedPerDay;
+
+    @Value("${course.idempotency.bloom.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${course.idempotency.bloom.retention-days:7}")
+    private int retentionDays;
+
+    private long bits;
+    private int hashCount;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ConsumedMessageRepository consumedMessageRepository;
+
+    @PostConstruct
+    void init() {
+        double ln2 = Math.log(2);
+        bits = (long) Math.ceil(-expectedPerDay * Math.log(falsePositiveRate) / (ln2 * ln2));
+        hashCount = Math.max(1, (int) Math.round((double) bits / expectedPerDay * ln2));
+
+        if (bits > MAX_BITS) {
+            throw new IllegalStateException("bloom bitmap 이 Redis 최대 크기(512MB)를 넘습니다. bits = " + bits);
+        }
+
+        log.info("idempotency bloom. bits/day = {}, hashes = {}, retentionDays = {}", bits, hashCount, retentionDays);
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return claimAll(Collections.singletonList(key)).get(0);
+    }
+
+    @Override
+    public List<Boolean> claimAll(List<String> keys) {
+        List<String> nonNullKeys = keys.stream().filter(Objects::nonNull).toList();
+        List<Long> seen = check(nonNullKeys);
+
+        // 처음 보는 키는 한 번에 INSERT, 본 적 있을 수 있는 키는 하나씩 INSERT. 어느 쪽이든 INSERT 된 컨슈머만 처리
+        // bloom 확인과 INSERT 사이에 다른 컨슈머가 같은 키를 먼저 넣으면 INSERT 가 무시되어 건너뜀
+        Set<Long> fresh = new LinkedHashSet<>();
+        for (int i = 0; i < nonNullKeys.size(); i++) {
+            if (seen.get(i) == 0L) {
+                fresh.add(exactKey(nonNullKeys.get(i)));
+            }
+        }
+        Set<Long> inserted = consumedMessageRepository.insertAll(fresh);
+
+        List<Boolean> claimed = new ArrayList<>(keys.size());
+        int position = 0;
+
+        for (String key : keys) {
+            if (key == null) {
+                claimed.add(true);
+                continue;
+            }
+
+            // 같은 배치에 같은 키가 다시 오면 bloom 은 양성이므로 INSERT 에서 걸러짐
+            long exactKey = exactKey(key);
+            claimed.add(seen.get(position++) == 0L
+                    ? inserted.contains(exactKey)
+                    : consumedMessageRepository.insert(exactKey));
+        }
+        return claimed;
+    }
+
+    @Override
+    public void release(String key) {
+        releaseAll(Collections.singletonList(key));
+    }
+
+    // bit 는 지울 수 없으므로 기록만 삭제. 재시도는 양성이지만 기록이 없어 다시 처리됨
+    @Override
+    public void releaseAll(List<String> keys) {
+        consumedMessageRepository.deleteAll(keys.stream()
+                .filter(Objects::nonNull)
+                .map(BloomIdempotencyService::exactKey)
+                .toList());
+    }
+
+    @Scheduled(cron = "0 10 0 * * *")
+    public void purgeConsumed() {
+        long minIdempotency = TimeOrderedIdGenerator.minIdAt(
+                System.currentTimeMillis() - Duration.ofDays(retentionDays).toMillis());
+
+        int deleted;
+        do {
+            deleted = consumedMessageRepository.deleteBefore(minIdempotency, PURGE_BATCH_SIZE);
+        } while (deleted == PURGE_BATCH_SIZE);
+    }
+
+    // Redis 장애 시 모든 키를 양성으로 보고 DB 로 확인
+    @SuppressWarnings("unchecked")
+    private List<Long> check(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+
+        List<String> args = new ArrayList<>(2 + keys.size() * (hashCount + 1));
+        args.add(String.valueOf(Duration.ofDays(retentionDays + 1L).toSeconds()));
+        args.add(String.valueOf(hashCount));
+        for (String key : keys) {
+            args.add(String.valueOf(bucketCount(key, today)));
+            addOffsets(args, key);
+        }
+
+        try {
+            List<Long> seen = redisTemplate.execute(CHECK_AND_ADD, bucketKeys(today), args.toArray());
+            if (seen != null && seen.size() == keys.size()) {
+                return seen;
+            }
+        } catch (DataAccessException e) {
+            log.warn("bloom 확인 실패, DB 확인으로 대체. reason = {}", e.getMessage());
+        }
+        return Collections.nCopies(keys.size(), 1L);
+    }
+
+    private List<String> bucketKeys(LocalDate today) {
+        List<String> bucketKeys = new ArrayList<>(retentionDays);
+        for (int day = 0; day < retentionDays; day++) {
+            bucketKeys.add(KEY_PREFIX + today.minusDays(day).format(BASIC_ISO_DATE));
+        }
+        return bucketKeys;
+    }
+
+    // 시간순 키는 발급된 날 이후 버킷만 확인. 인스턴스 간 시계 차이를 고려해 하루 더 확인
+    private int bucketCount(String key, LocalDate today) {
+        long exactKey = exactKey(key);
+        if (exactKey < 0) {
+            return retentionDays;
+        }
+
+        LocalDate issuedOn = LocalDate.ofInstant(
+                Instant.ofEpochMilli(TimeOrderedIdGenerator.timestampOf(exactKey)), ZoneId.systemDefault());
+        long days = ChronoUnit.DAYS.between(issuedOn, today) + 2;
+        return (int) Math.max(1, Math.min(days, retentionDays));
+    }
+
+    // 시간순 키는 그대로 사용. 그 외(이전 UUID 키)는 음수 해시로 옮겨 시간순 키와 겹치지 않게 함
+    static long exactKey(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            return mix(fnv1a(key.getBytes(StandardCharsets.UTF_8))) | Long.MIN_VALUE;
+        }
+    }
+
+    // 64bit 해시 두 개로 hashCount 개의 위치를 만듦 (h1 + i * h2)
+    private void addOffsets(List<String> args, String key) {
+        long h1 = fnv1a(key.getBytes(StandardCharsets.UTF_8));
+        long h2 = mix(h1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            args.add(String.valueOf(Math.floorMod(h1 + i * h2, bits)));
+        }
+    }
+
+    private static long fnv1a(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
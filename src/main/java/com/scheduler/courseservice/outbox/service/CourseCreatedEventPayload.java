@@ -39,4 +39,9 @@ public class CourseCreatedEventPayload implements EventPayload {
         this.thursdayClassHour = upsertCourseRequest.getThursdayClassHour();
         this.fridayClassHour = upsertCourseRequest.getFridayClassHour();
     }
+
+    @Override
+    public String partitionKey() {
+        return teacherId;
+    }
 }
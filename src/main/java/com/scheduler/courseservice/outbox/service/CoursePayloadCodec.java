@@ -0,0 +1,150 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.course.service.ScheduleSlotIndex;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+
+// bin1 수업 신청 페이로드
+//   [0]     버전 (1)
+//   [1..3]  요일별 시간 pack (요일당 4bit, 20bit)
+//   이후    teacherId, teacherName, studentId, studentName 순서로 varint(길이 + 1) + UTF-8, 0 이면 null
+// 컬럼과 Kafka 값이 문자열이라 Base64 로 감쌈
+public final class CoursePayloadCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAX_PACKED_HOUR = 15;
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private CoursePayloadCodec() {
+    }
+
+    // pack 할 수 없는 값(null, 범위 밖 시간)이면 null 을 반환해 JSON 으로 보냄
+    public static String encode(EventPayload eventPayload) {
+        if (!(eventPayload instanceof CourseCreatedEventPayload payload)) {
+            return null;
+        }
+
+        Integer[] classHours = {
+                payload.getMondayClassHour(), payload.getTuesdayClassHour(), payload.getWednesdayClassHour(),
+                payload.getThursdayClassHour(), payload.getFridayClassHour()
+        };
+
+        int[] hours = new int[classHours.length];
+        for (int day = 0; day < classHours.length; day++) {
+            if (classHours[day] == null || classHours[day] < 0 || classHours[day] > MAX_PACKED_HOUR) {
+                return null;
+            }
+            hours[day] = classHours[day];
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(VERSION);
+
+        int packed = ScheduleSlotIndex.pack(hours);
+        out.write(packed >>> 16);
+        out.write(packed >>> 8);
+        out.write(packed);
+
+        writeString(out, payload.getTeacherId());
+        writeString(out, payload.getTeacherName());
+        writeString(out, payload.getStudentId());
+        writeString(out, payload.getStudentName());
+
+        return ENCODER.encodeToString(out.toByteArray());
+    }
+
+    public static CourseRequestMessage decode(String encoded) {
+        byte[] bytes = DECODER.decode(encoded);
+        Reader reader = new Reader(bytes);
+
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 bin 버전입니다. version = " + version);
+        }
+
+        int packed = reader.readByte() << 16 | reader.readByte() << 8 | reader.readByte();
+        int[] hours = ScheduleSlotIndex.unpack(packed);
+
+        CourseRequestMessage courseMessage = new CourseRequestMessage();
+        courseMessage.setTeacherId(reader.readString());
+        courseMessage.setTeacherName(reader.readString());
+        courseMessage.setStudentId(reader.readString());
+        courseMessage.setStudentName(reader.readString());
+        courseMessage.setMondayClassHour(hours[0]);
+        courseMessage.setTuesdayClassHour(hours[1]);
+        courseMessage.setWednesdayClassHour(hours[2]);
+        courseMessage.setThursdayClassHour(hours[3]);
+        courseMessage.setFridayClassHour(hours[4]);
+        return courseMessage;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("bin 페이로드가 잘렸습니다. length = " + bytes.length);
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("varint 길이가 잘못되었습니다.");
+        }
+
+        private String readString() {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+
+            length--;
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("bin 페이로드가 잘렸습니다. length = " + bytes.length);
+            }
+
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
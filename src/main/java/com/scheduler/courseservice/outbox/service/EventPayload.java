@@ -1,4 +1,7 @@
 package com.scheduler.courseservice.outbox.service;
 
 public interface EventPayload {
+
+    // Kafka 메시지 키. 같은 키는 같은 파티션으로 순서 보장
+    String partitionKey();
 }
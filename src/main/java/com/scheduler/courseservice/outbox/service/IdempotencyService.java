@@ -1,20 +1,17 @@
 package com.scheduler.courseservice.outbox.service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.stereotype.Service;
+import java.util.List;
 
-import java.time.Duration;
+// course.idempotency.store 로 구현 선택 (redis | bloom)
+public interface IdempotencyService {
 
-@Service
-@RequiredArgsConstructor
-public class IdempotencyService {
+    boolean claim(String key);
 
-    private final StringRedisTemplate redisTemplate;
+    // 결과는 입력 순서와 같고 null 키는 항상 true
+    List<Boolean> claimAll(List<String> keys);
 
-    public boolean claim(String key) {
-        Boolean ok = redisTemplate.opsForValue().setIfAbsent("idem:"+key, "1", Duration.ofDays(7));
-        return Boolean.TRUE.equals(ok);
-    }
+    // 처리에 실패한 메시지는 선점을 풀어 재시도 시 다시 처리되게 함
+    void release(String key);
 
+    void releaseAll(List<String> keys);
 }
@@ -3,6 +3,10 @@ package com.scheduler.courseservice.outbox.service;
 import com.scheduler.courseservice.outbox.domain.OutBox;
 import com.scheduler.courseservice.outbox.domain.OutBoxEvent;
 import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,65 +14,318 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
+import static org.apache.kafka.clients.producer.ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.MAX_BLOCK_MS_CONFIG;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MessageRelay {
 
+    private static final String PUBLISH_METRIC = "course.outbox.publish";
+    private static final String BATCH_SIZE_METRIC = "course.outbox.publish.batch.size";
+
+    private static final long DEFAULT_MAX_BLOCK_MS = 60_000;
+    private static final long DEFAULT_DELIVERY_TIMEOUT_MS = 120_000;
+
     @Value("${spring.kafka.topics.course.apply}")
     private String courseApplyTopic;
 
+    @Value("${course.outbox.claim-batch-size:500}")
+    private int claimBatchSize;
+
+    // false 면 건마다 Kafka 트랜잭션 하나
+    @Value("${course.outbox.publish.batch-enabled:true}")
+    private boolean batchMode;
+
+    @Value("${course.outbox.publish.batch-size:100}")
+    private int publishBatchSize;
+
+    // 동시에 응답을 기다리는 비동기 전송 수
+    @Value("${course.outbox.publish.max-in-flight:256}")
+    private int maxInFlight;
+
+    @Value("${course.outbox.publish.acquire-timeout-millis:100}")
+    private long acquireTimeoutMillis;
+
+    private Semaphore inFlight;
+
+    // false 면 폴링 루프를 시작하지 않음. 커밋 직후 발행은 그대로 동작
+    @Value("${course.outbox.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${course.outbox.relay.min-idle-millis:100}")
+    private long minIdleMillis;
+
+    @Value("${course.outbox.relay.max-idle-millis:10000}")
+    private long maxIdleMillis;
+
+    private final BlockingQueue<Boolean> wakeups = new ArrayBlockingQueue<>(1);
+    private volatile boolean running;
+
     private final OutBoxJpaRepository outBoxJpaRepository;
+    private final OutBoxClaimService outBoxClaimService;
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final Executor messageRelayPublishEventExecutor;
+    private final Executor messageRelayPublishPendingEventExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 한 건 전송이 끝날 때까지 걸릴 수 있는 최대 시간 (max.block.ms + delivery.timeout.ms)
+    private long maxSendMillis;
+
+    @PostConstruct
+    void init() {
+        inFlight = new Semaphore(maxInFlight);
+
+        Map<String, Object> producerConfig = kafkaTemplate.getProducerFactory() == null
+                ? Map.of() : kafkaTemplate.getProducerFactory().getConfigurationProperties();
+        maxSendMillis = millis(producerConfig, MAX_BLOCK_MS_CONFIG, DEFAULT_MAX_BLOCK_MS)
+                + millis(producerConfig, DELIVERY_TIMEOUT_MS_CONFIG, DEFAULT_DELIVERY_TIMEOUT_MS);
+
+        // lease 가 먼저 끝나면 전송 중인 행을 다른 폴러가 다시 가져가 중복 발행
+        if (outBoxClaimService.getLeaseMillis() <= maxSendMillis) {
+            throw new IllegalStateException(String.format(
+                    "course.outbox.lease-seconds(%dms) 는 max.block.ms + delivery.timeout.ms(%dms) 보다 길어야 합니다.",
+                    outBoxClaimService.getLeaseMillis(), maxSendMillis));
+        }
+    }
+
+    private static long millis(Map<String, Object> config, String name, long defaultValue) {
+        Object value = config.get(name);
+        return value == null ? defaultValue : Long.parseLong(String.valueOf(value));
+    }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void createOutbox(OutBoxEvent outBoxEvent) {
         log.info("[MessageRelay.createOutbox] outboxEvent={}", outBoxEvent);
-        outBoxJpaRepository.save(outBoxEvent.getOutBox());
+
+        // 커밋 직후 이 인스턴스가 발행하므로 lease 동안 폴러가 가져가지 않음
+        OutBox outBox = outBoxEvent.getOutBox();
+        outBox.lease(outBoxClaimService.leaseUntil());
+        outBoxJpaRepository.save(outBox);
     }
 
-    @Async("messageRelayPublishEventExecutor")
+    // 요청 스레드는 창만 확인하고 전송은 발행 전용 스레드에서 수행. 완료 콜백에서 삭제
+    // 창이 가득 차거나 스레드에 넘기지 못하면 폴러에 넘김
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void publishEvent(OutBoxEvent outBoxEvent) {
-        publishEvent(outBoxEvent.getOutBox());
+        OutBox outbox = outBoxEvent.getOutBox();
+
+        try {
+            if (!inFlight.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("[MessageRelay.publishEvent] in-flight 한도 초과, 폴러가 발행. outboxId={}", outbox.getId());
+                handOff(outbox);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            messageRelayPublishEventExecutor.execute(() -> sendAsync(outbox, sample));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            stop(sample, "async", false);
+            log.warn("[MessageRelay.publishEvent] 발행 스레드 포화, 폴러가 발행. outboxId={}", outbox.getId());
+            handOff(outbox);
+        }
     }
 
-    private void publishEvent(OutBox outbox) {
+    private void sendAsync(OutBox outbox, Timer.Sample sample) {
         try {
+            kafkaTemplate.send(toMessage(outbox))
+                    .whenCompleteAsync((result, ex) -> {
+                        try {
+                            stop(sample, "async", ex == null);
+                            if (ex != null) {
+                                log.error("[MessageRelay.publishEvent] outbox={}", outbox, ex);
+                                handOff(outbox);
+                                return;
+                            }
+                            outBoxClaimService.delete(List.of(outbox.getId()));
+                        } catch (Exception e) {
+                            log.error("[MessageRelay.publishEvent] delete failed. outboxId={}", outbox.getId(), e);
+                        } finally {
+                            inFlight.release();
+                        }
+                    }, messageRelayPublishEventExecutor);
+        } catch (Exception e) {
+            inFlight.release();
+            stop(sample, "async", false);
+            log.error("[MessageRelay.publishEvent] outbox={}", outbox, e);
+            handOff(outbox);
+        }
+    }
 
-            Message<String> message = MessageBuilder.withPayload(outbox.getPayload())
-                    .setHeader(KafkaHeaders.TOPIC, courseApplyTopic)
-                    .setHeader("Idempotency-Key", outbox.getIdempotency())
-                    .setHeader("Event-Type", outbox.getEventType().name())
-                    .build();
+    // 커밋 직후 발행을 못 한 행은 lease 만료를 기다리지 않고 바로 폴러가 가져가도록 깨움
+    private void handOff(OutBox outbox) {
+        try {
+            outBoxClaimService.release(List.of(outbox.getId()));
+        } catch (Exception e) {
+            log.error("[MessageRelay.handOff] outboxId={}", outbox.getId(), e);
+        }
+        wakeUp();
+    }
 
-            kafkaTemplate.executeInTransaction(kt -> kt.send(message));
+    private void wakeUp() {
+        wakeups.offer(Boolean.TRUE);
+    }
 
-            outBoxJpaRepository.delete(outbox);
+    // 전송에 성공하면 true. 삭제 실패는 lease 만료 후 다시 발행되므로 전송 성공으로 봄
+    private boolean publishEvent(OutBox outbox) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
+        try {
+            kafkaTemplate.executeInTransaction(kt -> kt.send(toMessage(outbox)));
+            sent = true;
+            stop(sample, "single", true);
+
+            outBoxClaimService.delete(List.of(outbox.getId()));
         } catch (Exception e) {
+            if (!sent) {
+                stop(sample, "single", false);
+            }
             log.error("[MessageRelay.publishEvent] outbox={}", outbox, e);
         }
+        return sent;
+    }
+
+    // N 건을 Kafka 트랜잭션 하나로 보내고 ack 를 한꺼번에 기다린 뒤 id 목록으로 한 번에 삭제
+    private boolean publishBatch(List<OutBox> outboxes) {
+        meterRegistry.summary(BATCH_SIZE_METRIC).record(outboxes.size());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
+        try {
+            kafkaTemplate.executeInTransaction(kt -> {
+                CompletableFuture<?>[] sends = outboxes.stream()
+                        .map(outbox -> kt.send(toMessage(outbox)))
+                        .toArray(CompletableFuture[]::new);
+
+                return CompletableFuture.allOf(sends).join();
+            });
+            sent = true;
+            stop(sample, "batch", true);
+
+            outBoxClaimService.delete(outboxes.stream().map(OutBox::getId).toList());
+        } catch (Exception e) {
+            if (!sent) {
+                stop(sample, "batch", false);
+            }
+            // 트랜잭션이 중단되어 아무것도 보이지 않음. 호출 측에서 lease 를 풀어 묶음 전체를 다시 발행
+            log.error("[MessageRelay.publishBatch] size={}", outboxes.size(), e);
+        }
+        return sent;
+    }
+
+    private void stop(Timer.Sample sample, String mode, boolean success) {
+        sample.stop(meterRegistry.timer(PUBLISH_METRIC, "mode", mode, "result", success ? "success" : "failure"));
+    }
+
+    private Message<String> toMessage(OutBox outbox) {
+        return MessageBuilder.withPayload(outbox.getPayload())
+                .setHeader(KafkaHeaders.TOPIC, courseApplyTopic)
+                .setHeader(KafkaHeaders.KEY, outbox.getPartitionKey())
+                .setHeader("Idempotency-Key", String.valueOf(outbox.getIdempotency()))
+                .setHeader("Event-Type", outbox.eventTypeHeader())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRelay() {
+        if (!relayEnabled) {
+            return;
+        }
+
+        running = true;
+        messageRelayPublishPendingEventExecutor.execute(this::relayLoop);
+    }
+
+    @PreDestroy
+    public void stopRelay() {
+        running = false;
+        wakeUp();
     }
 
-    @Scheduled(
-            fixedDelay = 10, initialDelay = 5,
-            timeUnit = TimeUnit.SECONDS, scheduler = "messageRelayPublishPendingEventExecutor"
-    )
-    public void publishPendingEvent() {
+    // 발행한 행이 있으면 바로 다시 조회, 비어 있으면 대기 시간을 두 배씩 늘림. 깨우면 즉시 조회
+    private void relayLoop() {
+        long idleMillis = minIdleMillis;
 
-        List<OutBox> outboxes = outBoxJpaRepository.findAll();
+        while (running) {
+            try {
+                idleMillis = nextIdleMillis(idleMillis, publishPendingEvent());
+            } catch (Exception e) {
+                log.error("[MessageRelay.relayLoop]", e);
+                idleMillis = maxIdleMillis;
+            }
 
-        for (OutBox outbox : outboxes) {
-            publishEvent(outbox);
+            try {
+                if (wakeups.poll(idleMillis, TimeUnit.MILLISECONDS) != null) {
+                    idleMillis = minIdleMillis;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
         }
     }
+
+    long nextIdleMillis(long idleMillis, int published) {
+        return published > 0 ? minIdleMillis : Math.min(idleMillis * 2, maxIdleMillis);
+    }
+
+    public int publishPendingEvent() {
+
+        // 한 번에 claimBatchSize 만큼만 메모리에 올려 밀린 행을 모두 비울 때까지 반복
+        int published = 0;
+        List<OutBox> outboxes;
+        do {
+            outboxes = outBoxClaimService.claim(claimBatchSize);
+
+            // 이 시각이 지나면 남은 행은 lease 안에 전송을 마치지 못할 수 있으므로 풀어서 다시 가져감
+            long sendBy = System.currentTimeMillis() + outBoxClaimService.getLeaseMillis() - maxSendMillis;
+            int step = batchMode ? publishBatchSize : 1;
+
+            for (int from = 0; from < outboxes.size(); from += step) {
+                List<OutBox> chunk = outboxes.subList(from, Math.min(from + step, outboxes.size()));
+
+                if (System.currentTimeMillis() > sendBy) {
+                    releaseFrom(outboxes, from);
+                    break;
+                }
+
+                boolean sent = batchMode ? publishBatch(chunk) : publishEvent(chunk.get(0));
+                if (!sent) {
+                    // Kafka 장애로 보고 실패한 묶음과 남은 행의 lease 를 풀고 이번 조회를 끝냄. relayLoop 가 대기 시간을 늘림
+                    releaseFrom(outboxes, from);
+                    return published;
+                }
+                published += chunk.size();
+            }
+        } while (outboxes.size() == claimBatchSize && running);
+
+        return published;
+    }
+
+    private void releaseFrom(List<OutBox> outboxes, int from) {
+        outBoxClaimService.release(outboxes.subList(from, outboxes.size()).stream().map(OutBox::getId).toList());
+    }
 }
@@ -0,0 +1,72 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.infra.id.TimeOrderedIdGenerator;
+import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 발행되지 않은 outbox 행 수와 가장 오래된 행의 나이. 스크레이프마다 DB 를 조회하지 않도록 주기적으로 갱신
+// 나이는 min(id) 로 싸게 구하고 (IDENTITY 로 쌓인 이전 행은 created_at), 행 수는 COUNT 가 테이블을 훑으므로 더 드물게 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutBoxBacklogMonitor {
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    private final OutBoxJpaRepository outBoxJpaRepository;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("course.outbox.backlog", backlog, AtomicLong::get)
+                .description("발행 대기 중인 outbox 행 수")
+                .register(meterRegistry);
+
+        Gauge.builder("course.outbox.oldest.age", oldestAgeMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 outbox 행의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${course.outbox.metrics.refresh-millis:5000}")
+    public void refreshOldestAge() {
+        try {
+            // 이전 행은 모두 생성기 도입 전에 쌓였으므로 남아 있으면 그 행이 가장 오래됨
+            oldestAgeMillis.set(outBoxJpaRepository.findMinCreatedAtBefore(TimeOrderedIdGenerator.MIN_ISSUED_ID)
+                    .map(createdAt -> createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                    .or(() -> outBoxJpaRepository.findMinIdFrom(TimeOrderedIdGenerator.MIN_ISSUED_ID)
+                            .map(TimeOrderedIdGenerator::timestampOf))
+                    .map(oldest -> Math.max(0L, System.currentTimeMillis() - oldest))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("outbox 가장 오래된 행 조회 실패. reason = {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${course.outbox.metrics.backlog-refresh-millis:30000}")
+    public void refreshBacklog() {
+        try {
+            backlog.set(outBoxJpaRepository.count());
+        } catch (Exception e) {
+            log.warn("outbox backlog 조회 실패. reason = {}", e.getMessage());
+        }
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    public long getOldestAgeMillis() {
+        return oldestAgeMillis.get();
+    }
+}
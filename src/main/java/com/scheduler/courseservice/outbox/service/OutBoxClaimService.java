@@ -0,0 +1,65 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.outbox.domain.OutBox;
+import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+@Service
+@RequiredArgsConstructor
+public class OutBoxClaimService {
+
+    // 전송 중인 행을 다시 가져가지 않도록 max.block.ms + delivery.timeout.ms 보다 길게 둠
+    @Value("${course.outbox.lease-seconds:180}")
+    private long leaseSeconds;
+
+    private final OutBoxJpaRepository outBoxJpaRepository;
+
+    // 발행 대기 또는 lease 가 끝난 행을 limit 만큼 잠그고 lease 를 잡음. 커밋되면 잠금은 풀리고 lease 가 소유를 표시
+    @Transactional
+    public List<OutBox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<OutBox> outBoxes = outBoxJpaRepository.findClaimable(now, limit);
+        if (outBoxes.isEmpty()) {
+            return outBoxes;
+        }
+
+        outBoxJpaRepository.lease(outBoxes.stream().map(OutBox::getId).toList(), leaseUntil());
+        return outBoxes;
+    }
+
+    // delete, release 는 AFTER_COMMIT 콜백에서도 호출됨. 이미 커밋된 트랜잭션에 참여하면 반영되지 않으므로 새 트랜잭션으로 실행
+
+    // 발행이 끝난 행을 DELETE 한 번으로 삭제
+    @Transactional(propagation = REQUIRES_NEW)
+    public void delete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outBoxJpaRepository.deleteAllByIdIn(ids);
+        }
+    }
+
+    // lease 를 풀어 다음 조회에서 바로 가져가게 함
+    @Transactional(propagation = REQUIRES_NEW)
+    public void release(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outBoxJpaRepository.release(ids);
+        }
+    }
+
+    public LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(leaseSeconds);
+    }
+
+    public long getLeaseMillis() {
+        return leaseSeconds * 1000;
+    }
+}
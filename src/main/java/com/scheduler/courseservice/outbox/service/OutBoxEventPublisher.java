@@ -1,11 +1,14 @@
 package com.scheduler.courseservice.outbox.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scheduler.courseservice.outbox.domain.EventType;
 import com.scheduler.courseservice.outbox.domain.OutBox;
 import com.scheduler.courseservice.outbox.domain.OutBoxEvent;
+import com.scheduler.courseservice.outbox.domain.PayloadCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
@@ -14,16 +17,17 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OutBoxEventPublisher {
 
+    // bin1 은 모든 컨슈머가 bin1 을 읽을 수 있게 배포된 뒤 켬
+    @Value("${course.outbox.codec:json}")
+    private String codec;
+
     private final ApplicationEventPublisher applicationEventPublisher;
     private final ObjectMapper objectMapper;
 
     public void publish(EventType eventType, EventPayload eventPayload) {
 
         try {
-            OutBox outBox = OutBox.create(
-                    eventType,
-                    objectMapper.writeValueAsString(eventPayload)
-            );
+            OutBox outBox = create(eventType, eventPayload);
 
             applicationEventPublisher.publishEvent(OutBoxEvent.of(outBox));
 
@@ -31,4 +35,20 @@ public class OutBoxEventPublisher {
             log.error("[DataSerializer.serialize] = {}",  e.getMessage());
         }
     }
+
+    // bin1 으로 인코딩할 수 없는 페이로드는 JSON 으로 저장
+    private OutBox create(EventType eventType, EventPayload eventPayload) throws JsonProcessingException {
+        if (PayloadCodec.BIN1.getToken().equals(codec)) {
+            String encoded = CoursePayloadCodec.encode(eventPayload);
+            if (encoded != null) {
+                return OutBox.create(eventType, PayloadCodec.BIN1, encoded, eventPayload.partitionKey());
+            }
+        }
+
+        return OutBox.create(
+                eventType,
+                objectMapper.writeValueAsString(eventPayload),
+                eventPayload.partitionKey()
+        );
+    }
 }
@@ -0,0 +1,75 @@
+package com.scheduler.courseservice.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// 메시지마다 idem:{key} 하나를 TTL 동안 유지
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "course.idempotency.store", havingValue = "redis", matchIfMissing = true)
+public class RedisIdempotencyService implements IdempotencyService {
+
+    private static final String KEY_PREFIX = "idem:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean claim(String key) {
+        Boolean ok = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, "1", TTL);
+        return Boolean.TRUE.equals(ok);
+    }
+
+    // 배치의 키를 파이프라인 한 번으로 선점
+    @Override
+    public List<Boolean> claimAll(List<String> keys) {
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            for (String key : keys) {
+                if (key != null) {
+                    stringConnection.set(KEY_PREFIX + key, "1", Expiration.from(TTL), SetOption.SET_IF_ABSENT);
+                }
+            }
+            return null;
+        });
+
+        List<Boolean> claimed = new ArrayList<>(keys.size());
+        int reply = 0;
+
+        for (String key : keys) {
+            claimed.add(key == null || Boolean.TRUE.equals(replies.get(reply++)));
+        }
+        return claimed;
+    }
+
+    @Override
+    public void release(String key) {
+        if (key != null) {
+            redisTemplate.delete(KEY_PREFIX + key);
+        }
+    }
+
+    @Override
+    public void releaseAll(List<String> keys) {
+        List<String> redisKeys = keys.stream()
+                .filter(Objects::nonNull)
+                .map(key -> KEY_PREFIX + key)
+                .toList();
+
+        if (!redisKeys.isEmpty()) {
+            redisTemplate.delete(redisKeys);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.scheduler.courseservice.client;
+
+import com.scheduler.courseservice.infra.config.redis.CacheInvalidationBus;
+import com.scheduler.courseservice.infra.security.jwt.component.JwtUtils;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MemberInfoCacheTest {
+
+    private static final String TOKEN = "Bearer token";
+
+    private MemberServiceClient memberServiceClient;
+    private JwtUtils jwtUtils;
+    private CacheInvalidationBus invalidationBus;
+    private MemberInfoCache memberInfoCache;
+
+    @BeforeEach
+    void setUp() {
+        memberServiceClient = mock(MemberServiceClient.class);
+        jwtUtils = mock(JwtUtils.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+
+        memberInfoCache = new MemberInfoCache(memberServiceClient, jwtUtils, invalidationBus);
+        ReflectionTestUtils.setField(memberInfoCache, "enabled", true);
+        ReflectionTestUtils.setField(memberInfoCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(memberInfoCache, "maxTtlSeconds", 300L);
+        memberInfoCache.init();
+
+        when(memberServiceClient.findStudentInfoByToken(TOKEN))
+                .thenReturn(new StudentInfo("teacher_001", "Mr.Kim", "student_001", "Alice"));
+    }
+
+    @Test
+    @DisplayName("같은 subject 는 회원 서비스를 한 번만 호출")
+    void cacheBySubject() {
+        givenTokenExpiresAt(Instant.now().plusSeconds(600));
+
+        memberInfoCache.findStudentInfo(TOKEN);
+        StudentInfo studentInfo = memberInfoCache.findStudentInfo(TOKEN);
+
+        assertThat(studentInfo.getStudentId()).isEqualTo("student_001");
+        verify(memberServiceClient, times(1)).findStudentInfoByToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("이름 변경 시 해당 회원 항목을 지우고 다른 인스턴스에 전파")
+    void evictMember() {
+        givenTokenExpiresAt(Instant.now().plusSeconds(600));
+
+        memberInfoCache.findStudentInfo(TOKEN);
+        memberInfoCache.evictMember("student_001");
+        memberInfoCache.findStudentInfo(TOKEN);
+
+        verify(memberServiceClient, times(2)).findStudentInfoByToken(TOKEN);
+        verify(invalidationBus).publishEvict(MemberInfoCache.CACHE_NAME, "student_001");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시하지 않음")
+    void expiredToken() {
+        givenTokenExpiresAt(Instant.now().minusSeconds(1));
+
+        memberInfoCache.findStudentInfo(TOKEN);
+        memberInfoCache.findStudentInfo(TOKEN);
+
+        verify(memberServiceClient, times(2)).findStudentInfoByToken(TOKEN);
+    }
+
+    private void givenTokenExpiresAt(Instant expiresAt) {
+        when(jwtUtils.getPayload("token")).thenReturn(
+                Jwts.claims()
+                        .subject("student_username_01")
+                        .expiration(Date.from(expiresAt))
+                        .build()
+        );
+    }
+}
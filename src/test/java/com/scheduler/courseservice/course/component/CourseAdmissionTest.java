@@ -0,0 +1,70 @@
+package com.scheduler.courseservice.course.component;
+
+import com.scheduler.courseservice.course.service.SlotReservationService;
+import com.scheduler.courseservice.infra.exception.custom.CourseOverloadedException;
+import com.scheduler.courseservice.outbox.service.OutBoxBacklogMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourseAdmissionTest {
+
+    private OutBoxBacklogMonitor outBoxBacklogMonitor;
+    private SlotReservationService slotReservationService;
+    private CourseAdmission courseAdmission;
+
+    private final CourseRequestMessage courseMessage = new CourseRequestMessage();
+
+    @BeforeEach
+    void setUp() {
+        outBoxBacklogMonitor = mock(OutBoxBacklogMonitor.class);
+        slotReservationService = mock(SlotReservationService.class);
+
+        // lag 은 직접 넣으므로 AdminClient 를 만드는 init 은 호출하지 않음
+        courseAdmission = new CourseAdmission(
+                mock(KafkaProperties.class), outBoxBacklogMonitor, slotReservationService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(courseAdmission, "enabled", true);
+        ReflectionTestUtils.setField(courseAdmission, "maxConsumerLag", 100L);
+        ReflectionTestUtils.setField(courseAdmission, "maxOutboxBacklog", 50L);
+        ReflectionTestUtils.setField(courseAdmission, "retryAfterSeconds", 2L);
+        ReflectionTestUtils.setField(courseAdmission, "maxRetryAfterSeconds", 30L);
+    }
+
+    @Test
+    @DisplayName("기준 아래면 수락, outbox 적체가 기준을 넘으면 비율만큼 Retry-After 를 늘려 거절")
+    void rejectAboveThreshold() {
+
+        when(outBoxBacklogMonitor.getBacklog()).thenReturn(49L);
+        assertThat(courseAdmission.admit(courseMessage)).isTrue();
+
+        when(outBoxBacklogMonitor.getBacklog()).thenReturn(150L);
+        assertThatThrownBy(() -> courseAdmission.admit(courseMessage))
+                .isInstanceOfSatisfying(CourseOverloadedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(6));
+    }
+
+    @Test
+    @DisplayName("lag 이 기준을 넘어도 같은 시간으로 선점된 재제출은 거절하지 않고, 새 작업으로 보지 않음")
+    void admitResubmit() {
+
+        lag().set(1_000);
+        when(slotReservationService.holds(courseMessage)).thenReturn(true);
+
+        assertThat(courseAdmission.admit(courseMessage)).isFalse();
+    }
+
+    private AtomicLong lag() {
+        return (AtomicLong) ReflectionTestUtils.getField(courseAdmission, "consumerLag");
+    }
+}
@@ -0,0 +1,44 @@
+package com.scheduler.courseservice.course.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TeacherLockTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TeacherLock teacherLock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        teacherLock = new TeacherLock(mock(RedissonClient.class), meterRegistry);
+        ReflectionTestUtils.setField(teacherLock, "lockMode", "partition");
+        ReflectionTestUtils.setField(teacherLock, "perTeacherMetrics", true);
+        teacherLock.init();
+    }
+
+    @Test
+    @DisplayName("교사별 락 대기, 점유 시간 기록")
+    void recordWaitAndHold() throws Exception {
+
+        try (TeacherLock.Handle ignored = teacherLock.acquire("teacher_001")) {
+            Thread.sleep(5);
+        }
+
+        assertThat(meterRegistry.get("course.lock.wait")
+                .tags("teacher", "teacher_001", "result", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("course.lock.hold")
+                .tag("teacher", "teacher_001").timer().totalTime(MILLISECONDS))
+                .isGreaterThanOrEqualTo(5);
+    }
+}
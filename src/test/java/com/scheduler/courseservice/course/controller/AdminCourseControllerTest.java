@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static com.github.dockerjava.zerodep.shaded.org.apache.hc.core5.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @IntegrationTest
@@ -39,6 +40,48 @@ class AdminCourseControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser(username = "test_admin", password = "admin123", roles = "ADMIN")
+    @DisplayName("컨트롤러 : 관리자 수업 커서 조회")
+    void findAllStudentsCoursesBySeek() throws Exception{
+
+        mockMvc.perform(get("/admin/class/seek")
+                        .param("size", "5")
+                        .param("withTotal", "true")
+                        .header(AUTHORIZATION, getAccessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("contents.length()").value(5))
+                .andExpect(jsonPath("hasNext").value(true))
+                .andExpect(jsonPath("totalCount").value(9));
+    }
+
+    @Test
+    @WithMockUser(username = "test_admin", password = "admin123", roles = "ADMIN")
+    @DisplayName("컨트롤러 : 잘못된 커서")
+    void findAllStudentsCoursesByInvalidSeek() throws Exception{
+
+        mockMvc.perform(get("/admin/class/seek")
+                        .param("cursor", "invalid-cursor")
+                        .header(AUTHORIZATION, getAccessToken()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "test_admin", password = "admin123", roles = "ADMIN")
+    @DisplayName("컨트롤러 : 커서 조회 size 범위 밖")
+    void findAllStudentsCoursesBySeekWithInvalidSize() throws Exception{
+
+        mockMvc.perform(get("/admin/class/seek")
+                        .param("size", "0")
+                        .header(AUTHORIZATION, getAccessToken()))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/class/seek")
+                        .param("size", "-1")
+                        .header(AUTHORIZATION, getAccessToken()))
+                .andExpect(status().isBadRequest());
+    }
+
     private String getAccessToken() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         JwtTokenDto jwtTokenDto = testJwtUtils.generateToken(authentication);
@@ -5,18 +5,23 @@ import com.scheduler.courseservice.course.domain.CourseSchedule;
 import com.scheduler.courseservice.course.repository.CourseJpaRepository;
 import com.scheduler.courseservice.outbox.service.IdempotencyService;
 import com.scheduler.courseservice.testSet.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static com.scheduler.courseservice.course.service.CourseMessageResult.Status.*;
 import static com.scheduler.courseservice.testSet.messaging.testDataSet.mockWeek;
 import static com.scheduler.courseservice.testSet.messaging.testDataSet.mockYear;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 
 @IntegrationTest
@@ -70,4 +75,49 @@ class CourseMessageServiceTest {
                         1, 2
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("교사별로 묶어 도착 순서대로 검증하고 메시지별 결과를 반환")
+    void processBatch() throws Exception {
+
+        // Given
+        String first = json("teacher_002", "student_006", 1);
+        String conflict = json("teacher_002", "student_007", 1);
+        String otherTeacher = json("teacher_003", "student_010", 1);
+
+        when(idempotencyService.claimAll(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> !"done".equals(key)).toList();
+        });
+
+        //When
+        List<CourseMessageResult> results = courseMessageService.processBatch(
+                Arrays.asList(null, null, null, null, "done"),
+                List.of(first, conflict, "not json", otherTeacher, first)
+        );
+
+        //Then
+        assertThat(results)
+                .extracting(CourseMessageResult::getStatus)
+                .containsExactly(APPLIED, CONFLICT, INVALID, APPLIED, ALREADY_PROCESSED);
+
+        assertThat(courseJpaRepository
+                .findCourseScheduleByStudentIdAndCourseYearAndWeekOfYear("student_007", mockYear, mockWeek))
+                .isEmpty();
+        assertThat(courseJpaRepository
+                .findCourseScheduleByStudentIdAndCourseYearAndWeekOfYear("student_010", mockYear, mockWeek))
+                .isPresent();
+    }
+
+    private String json(String teacherId, String studentId, int mondayClassHour) throws Exception {
+        UpsertCourseRequest upsertCourseRequest = new UpsertCourseRequest();
+        upsertCourseRequest.setMondayClassHour(mondayClassHour);
+        upsertCourseRequest.setTuesdayClassHour(0);
+        upsertCourseRequest.setWednesdayClassHour(0);
+        upsertCourseRequest.setThursdayClassHour(0);
+        upsertCourseRequest.setFridayClassHour(0);
+
+        return objectMapper.writeValueAsString(new CourseRequestMessage(
+                new StudentInfo(teacherId, "Mr.Batch", studentId, studentId), upsertCourseRequest));
+    }
+}
@@ -5,15 +5,24 @@ import com.scheduler.courseservice.client.MemberServiceClient;
 import com.scheduler.courseservice.course.component.DateProvider;
 import com.scheduler.courseservice.course.domain.CourseSchedule;
 import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.course.repository.CourseScheduleUpsertRepository;
+import com.scheduler.courseservice.outbox.domain.OutBox;
+import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
 import com.scheduler.courseservice.outbox.service.IdempotencyService;
 import com.scheduler.courseservice.testSet.IntegrationTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.Duration;
 import java.util.List;
@@ -22,14 +31,16 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static com.scheduler.courseservice.outbox.domain.EventType.CREATED;
 import static com.scheduler.courseservice.testSet.messaging.testDataSet.*;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 @IntegrationTest
@@ -47,6 +58,21 @@ class CourseScheduleServiceTest {
     @Autowired
     private CourseJpaRepository courseJpaRepository;
 
+    @Autowired
+    private CourseScheduleUpsertRepository courseScheduleUpsertRepository;
+
+    @Autowired
+    private CourseScheduleService courseScheduleService;
+
+    @Autowired
+    private OutBoxJpaRepository outBoxJpaRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
     @MockitoBean
     private MemberServiceClient memberServiceClient;
 
@@ -170,10 +196,10 @@ class CourseScheduleServiceTest {
                 new StudentInfo("teacher_001","Mr. Kim","student_009","Irene Seo"), request));
 
         String sameIdem = UUID.randomUUID().toString();
-        when(idempotencyService.claim(sameIdem)).thenReturn(true, false);
+        when(idempotencyService.claimAll(List.of(sameIdem))).thenReturn(List.of(true), List.of(false));
 
-        courseService.saveCourseTable(List.of(sameIdem), List.of(json), mockAck);
-        courseService.saveCourseTable(List.of(sameIdem), List.of(json), mockAck);
+        courseService.saveCourseTable(List.of(sameIdem), null, List.of(json), mockAck);
+        courseService.saveCourseTable(List.of(sameIdem), null, List.of(json), mockAck);
 
         // 기대: 1건만 존재
         long count = courseJpaRepository
@@ -182,4 +208,73 @@ class CourseScheduleServiceTest {
 
         assertThat(count).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("upsert 는 같은 학생, 주차의 수업을 새로 넣지 않고 갱신")
+    void upsertAll_updatesExistingRow() {
+
+        int year = 1999;
+        int week = 10;
+
+        List<CourseRequestMessage> messages = IntStream.rangeClosed(1, 5)
+                .mapToObj(hour -> message("student_00" + hour, hour))
+                .toList();
+
+        courseScheduleUpsertRepository.upsertAll(messages, year, week);
+        courseScheduleUpsertRepository.upsert(message("student_001", 7), year, week);
+
+        List<CourseSchedule> saved = courseJpaRepository.findAllByCourseYearAndWeekOfYear(year, week);
+
+        assertThat(saved).hasSize(5);
+        assertThat(saved)
+                .filteredOn(schedule -> "student_001".equals(schedule.getStudentId()))
+                .extracting(CourseSchedule::getMondayClassHour)
+                .containsExactly(7);
+    }
+
+    @Test
+    @DisplayName("새 수업 여러 건은 upsert 배치 한 번으로, outbox 여러 건은 insert 문 하나로 전송")
+    void applyBatch_jdbcBatchInsert() {
+
+        List<CourseRequestMessage> messages = IntStream.rangeClosed(1, 5)
+                .mapToObj(hour -> message("teacher_002", "student_00" + hour, hour))
+                .toList();
+
+        courseScheduleService.applyBatch("teacher_002", messages);
+
+        // 학생마다 문장을 실행하지 않고 batchUpdate 한 번에 5건
+        verify(jdbcTemplate).batchUpdate(
+                startsWith("INSERT INTO course_schedule"), argThat((List<Object[]> batchArgs) -> batchArgs.size() == 5));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO course_schedule"), any(Object[].class));
+        assertThat(courseJpaRepository.findAllByCourseYearAndWeekOfYear(dateProvider.getCurrentYear(), dateProvider.getCurrentWeek()))
+                .filteredOn(schedule -> "teacher_002".equals(schedule.getTeacherId()))
+                .hasSize(5);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        outBoxJpaRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> OutBox.create(CREATED, "{}", "teacher_002"))
+                .toList());
+        entityManager.flush();
+
+        // id 를 미리 발급하므로 insert 5건이 준비된 문장 하나의 배치로 나감
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private CourseRequestMessage message(String studentId, int mondayClassHour) {
+        return message("teacher_001", studentId, mondayClassHour);
+    }
+
+    private CourseRequestMessage message(String teacherId, String studentId, int mondayClassHour) {
+        UpsertCourseRequest request = new UpsertCourseRequest();
+        request.setMondayClassHour(mondayClassHour);
+        request.setTuesdayClassHour(0);
+        request.setWednesdayClassHour(0);
+        request.setThursdayClassHour(0);
+        request.setFridayClassHour(0);
+
+        return new CourseRequestMessage(new StudentInfo(teacherId, "Mr.Kim", studentId, studentId), request);
+    }
+}
@@ -6,6 +6,7 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.scheduler.courseservice.client.MemberServiceClient;
 import com.scheduler.courseservice.course.domain.CourseSchedule;
 import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.course.repository.CourseScheduleUpsertRepository;
 import com.scheduler.courseservice.outbox.domain.EventType;
 import com.scheduler.courseservice.outbox.service.CourseCreatedEventPayload;
 import com.scheduler.courseservice.outbox.service.EventPayload;
@@ -27,6 +28,7 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -34,9 +36,11 @@ import java.util.UUID;
 import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
 import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static com.scheduler.courseservice.course.messaging.RabbitMQDto.ChangeMemberNameDto;
 import static com.scheduler.courseservice.testSet.messaging.testDataSet.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 @IntegrationTest
 class CourseServiceTest {
@@ -57,6 +61,9 @@ class CourseServiceTest {
     @Autowired
     private CourseJpaRepository courseJpaRepository;
 
+    @Autowired
+    private CourseScheduleUpsertRepository courseScheduleUpsertRepository;
+
     @MockitoBean
     private OutBoxEventPublisher outBoxEventPublisher;
 
@@ -168,9 +175,9 @@ class CourseServiceTest {
 
         String idem = UUID.randomUUID().toString();
 
-        when(idempotencyService.claim(idem)).thenReturn(true);
+        when(idempotencyService.claimAll(List.of(idem))).thenReturn(List.of(true));
 
-        courseService.saveCourseTable(List.of(idem), List.of(json), mockAck);
+        courseService.saveCourseTable(List.of(idem), null, List.of(json), mockAck);
 
         CourseSchedule student = courseJpaRepository
                 .findCourseScheduleByStudentIdAndCourseYearAndWeekOfYear(
@@ -194,7 +201,7 @@ class CourseServiceTest {
 
     @Test
     @DisplayName("레빗 엠큐-학생 이름 변경")
-    void changeStudentName() throws InterruptedException {
+    void changeStudentName() {
 
         ChangeStudentNameRequest changeStudentNameRequest = new ChangeStudentNameRequest();
         changeStudentNameRequest.setMemberId("student_001");
@@ -202,15 +209,56 @@ class CourseServiceTest {
 
         rabbitTemplate.convertAndSend("student.exchange", "student.name.update", changeStudentNameRequest);
 
-        Thread.sleep(1000);
+        // 배치 리스너는 수신 대기 시간이 지나야 모인 메시지를 전달
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(courseJpaRepository.findAll())
+                        .filteredOn(schedule -> "student_001".equals(schedule.getStudentId()))
+                        .isNotEmpty()
+                        .extracting(CourseSchedule::getStudentName)
+                        .containsOnly("Click_Kim")
+        );
+    }
 
-        CourseSchedule student010 = courseJpaRepository
-                .findCourseScheduleByStudentId("student_001")
-                .orElseThrow(NoSuchElementException::new);
+    @Test
+    @DisplayName("학생 이름 변경은 모든 주차의 수업에 반영")
+    void changeStudentNames_allWeeks() {
+
+        UpsertCourseRequest upsertCourseRequest = new UpsertCourseRequest();
+        upsertCourseRequest.setMondayClassHour(1);
+        upsertCourseRequest.setTuesdayClassHour(0);
+        upsertCourseRequest.setWednesdayClassHour(0);
+        upsertCourseRequest.setThursdayClassHour(0);
+        upsertCourseRequest.setFridayClassHour(0);
 
-        assertThat(student010)
-                .extracting("studentName", "studentId")
-                .containsExactly("Click_Kim", "student_001");
+        CourseRequestMessage courseRequestMessage = new CourseRequestMessage(
+                new StudentInfo("teacher_001", "Mr.Kim", "student_002", "Bob_Lee"), upsertCourseRequest);
+        courseScheduleUpsertRepository.upsert(courseRequestMessage, 1999, 20);
+        courseScheduleUpsertRepository.upsert(courseRequestMessage, 1999, 21);
+
+        courseService.changeStudentNames(List.of(
+                new ChangeMemberNameDto("student_002", "Bob_Lee", "Bobby_Lee", false),
+                new ChangeMemberNameDto("student_002", "Bobby_Lee", "Robert_Lee", false)
+        ));
+
+        assertThat(courseJpaRepository.findAll())
+                .filteredOn(schedule -> "student_002".equals(schedule.getStudentId()))
+                .hasSizeGreaterThanOrEqualTo(3)
+                .extracting(CourseSchedule::getStudentName)
+                .containsOnly("Robert_Lee");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("교사 이름 변경은 교사의 모든 학생, 주차 수업에 반영")
+    void changeTeacherNames() {
+
+        courseService.changeTeacherNames(List.of(
+                new ChangeMemberNameDto("teacher_001", "Mr.Kim", "Mr.Park", false)
+        ));
+
+        assertThat(courseJpaRepository.findAll())
+                .filteredOn(schedule -> "teacher_001".equals(schedule.getTeacherId()))
+                .isNotEmpty()
+                .extracting(CourseSchedule::getTeacherName)
+                .containsOnly("Mr.Park");
+    }
+}
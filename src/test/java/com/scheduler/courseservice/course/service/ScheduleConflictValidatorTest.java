@@ -0,0 +1,100 @@
+package com.scheduler.courseservice.course.service;
+
+import com.scheduler.courseservice.course.domain.CourseSchedule;
+import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static com.scheduler.courseservice.course.dto.CourseInfoResponse.CourseList.Day.*;
+import static com.scheduler.courseservice.course.service.ScheduleSlotIndex.SlotConflict;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ScheduleConflictValidatorTest {
+
+    private final ScheduleConflictValidator validator = new ScheduleConflictValidator();
+
+    @Test
+    @DisplayName("겹치는 모든 시간을 한 번에 찾음")
+    void findAllConflicts() {
+
+        ScheduleSlotIndex index = ScheduleSlotIndex.of(List.of(
+                CourseSchedule.create(message("student_001", 1, 2, 0, 0, 0)),
+                CourseSchedule.create(message("student_002", 0, 0, 3, 4, 5))
+        ));
+
+        CourseRequestMessage request = message("student_003", 1, 3, 3, 0, 5);
+
+        List<SlotConflict> conflicts = index.findConflicts(request.getStudentId(), ScheduleSlotIndex.hoursOf(request));
+
+        assertThat(conflicts)
+                .extracting(SlotConflict::getDay, SlotConflict::getClassHour, SlotConflict::getStudentId)
+                .containsExactly(
+                        tuple(MONDAY, 1, "student_001"),
+                        tuple(WEDNESDAY, 3, "student_002"),
+                        tuple(FRIDAY, 5, "student_002")
+                );
+
+        assertThatThrownBy(() -> validator.validate(request, index))
+                .isInstanceOf(DuplicateCourseException.class);
+    }
+
+    @Test
+    @DisplayName("본인 수업 수정과 0교시는 충돌이 아님")
+    void ownSlotsAreNotConflicts() {
+
+        ScheduleSlotIndex index = ScheduleSlotIndex.of(List.of(
+                CourseSchedule.create(message("student_001", 1, 2, 0, 0, 0))
+        ));
+
+        validator.validate(message("student_001", 1, 2, 3, 0, 0), index);
+        validator.validate(message("student_002", 0, 0, 0, 0, 0), index);
+    }
+
+    @Test
+    @DisplayName("점유 해제 후에는 같은 시간 신청 가능")
+    void release() {
+
+        ScheduleSlotIndex index = ScheduleSlotIndex.of(List.of(
+                CourseSchedule.create(message("student_001", 1, 2, 0, 0, 0))
+        ));
+
+        index.release("student_001");
+
+        validator.validate(message("student_002", 1, 2, 0, 0, 0), index);
+    }
+
+    @Test
+    @DisplayName("pack 한 주간 시간으로 만든 점유 현황도 같은 충돌을 찾음")
+    void packedSnapshot() {
+
+        int[] hours = {10, 0, 3, 1, 7};
+        assertThat(ScheduleSlotIndex.unpack(ScheduleSlotIndex.pack(hours))).containsExactly(hours);
+
+        ScheduleSlotIndex index = ScheduleSlotIndex.ofPacked(Map.of(
+                "student_001", ScheduleSlotIndex.pack(new int[]{1, 2, 0, 0, 0})
+        ));
+
+        assertThatThrownBy(() -> validator.validate(message("student_002", 0, 2, 0, 0, 0), index))
+                .isInstanceOf(DuplicateCourseException.class);
+        validator.validate(message("student_001", 1, 2, 3, 0, 0), index);
+    }
+
+    private CourseRequestMessage message(String studentId, int mon, int tue, int wed, int thu, int fri) {
+        UpsertCourseRequest request = new UpsertCourseRequest();
+        request.setMondayClassHour(mon);
+        request.setTuesdayClassHour(tue);
+        request.setWednesdayClassHour(wed);
+        request.setThursdayClassHour(thu);
+        request.setFridayClassHour(fri);
+
+        return new CourseRequestMessage(new StudentInfo("teacher_001", "Mr.Kim", studentId, studentId), request);
+    }
+}
@@ -0,0 +1,184 @@
+package com.scheduler.courseservice.course.service;
+
+import com.scheduler.courseservice.course.component.DateProvider;
+import com.scheduler.courseservice.course.domain.CourseSchedule;
+import com.scheduler.courseservice.course.domain.CourseScheduleChangedEvent;
+import com.scheduler.courseservice.course.domain.SlotReservedEvent;
+import com.scheduler.courseservice.course.repository.CourseJpaRepository;
+import com.scheduler.courseservice.infra.exception.custom.DuplicateCourseException;
+import com.scheduler.courseservice.testSet.IntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 테스트 프로필은 선점을 끄므로 실제 Redis 와 DB 를 쓰는 인스턴스를 따로 만들어 확인
+@IntegrationTest
+class SlotReservationServiceTest {
+
+    private static final String TEACHER = "teacher_002";
+    private static final String OTHER_TEACHER = "teacher_003";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private CourseJpaRepository courseJpaRepository;
+
+    @Autowired
+    private DateProvider dateProvider;
+
+    private ApplicationEventPublisher applicationEventPublisher;
+    private SlotReservationService slotReservationService;
+
+    private int year;
+    private int week;
+
+    @BeforeEach
+    void setUp() {
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        slotReservationService = new SlotReservationService(
+                redisTemplate, courseJpaRepository, dateProvider, new SimpleMeterRegistry(), applicationEventPublisher);
+        ReflectionTestUtils.setField(slotReservationService, "enabled", true);
+        ReflectionTestUtils.setField(slotReservationService, "leaseSeconds", 300L);
+
+        year = dateProvider.getCurrentYear();
+        week = dateProvider.getCurrentWeek();
+        deleteKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteKeys();
+    }
+
+    @Test
+    @DisplayName("다른 학생이 선점한 시간은 거절하고, 선점한 학생의 같은 신청은 재제출로 봄")
+    void rejectConflictingReserve() {
+
+        slotReservationService.reserve(message(TEACHER, "student_001", 1, 0));
+
+        assertThatThrownBy(() -> slotReservationService.reserve(message(TEACHER, "student_002", 1, 0)))
+                .isInstanceOf(DuplicateCourseException.class)
+                .hasMessageContaining("MONDAY:1(student_001)");
+
+        assertThat(slotReservationService.holds(message(TEACHER, "student_001", 1, 0))).isTrue();
+        assertThat(slotReservationService.holds(message(TEACHER, "student_002", 1, 0))).isFalse();
+        verify(applicationEventPublisher, times(1)).publishEvent(any(SlotReservedEvent.class));
+    }
+
+    @Test
+    @DisplayName("확정된 학생이 다른 시간으로 재제출해도 컨슈머가 반영하기 전까지 확정된 시간은 유지")
+    void resubmitKeepsCommittedSlots() {
+
+        CourseRequestMessage committed = message(TEACHER, "student_001", 1, 0);
+        slotReservationService.reserve(committed);
+        slotReservationService.onScheduleChanged(CourseScheduleChangedEvent.of(committed, year, week));
+
+        slotReservationService.reserve(message(TEACHER, "student_001", 0, 2));
+
+        assertThatThrownBy(() -> slotReservationService.reserve(message(TEACHER, "student_002", 1, 0)))
+                .isInstanceOf(DuplicateCourseException.class);
+        assertThatThrownBy(() -> slotReservationService.reserve(message(TEACHER, "student_002", 0, 2)))
+                .isInstanceOf(DuplicateCourseException.class);
+    }
+
+    @Test
+    @DisplayName("해제한 선점은 다른 학생이 가져가고, 확정된 시간은 해제 요청이 와도 유지")
+    void commitAndRelease() {
+
+        CourseRequestMessage first = message(TEACHER, "student_001", 1, 0);
+        slotReservationService.reserve(first);
+        slotReservationService.release(first);
+
+        CourseRequestMessage second = message(TEACHER, "student_002", 1, 0);
+        slotReservationService.reserve(second);
+        slotReservationService.onScheduleChanged(CourseScheduleChangedEvent.of(second, year, week));
+        slotReservationService.release(second);
+
+        assertThat(slotReservationService.holds(second)).isTrue();
+        assertThatThrownBy(() -> slotReservationService.reserve(message(TEACHER, "student_003", 1, 0)))
+                .isInstanceOf(DuplicateCourseException.class)
+                .hasMessageContaining("MONDAY:1(student_002)");
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 주차는 DB 의 확정 수업으로 채운 뒤 검사")
+    void loadFromDb() {
+
+        courseJpaRepository.saveAndFlush(CourseSchedule.create(message(TEACHER, "student_004", 3, 0)));
+
+        assertThatThrownBy(() -> slotReservationService.reserve(message(TEACHER, "student_005", 3, 0)))
+                .isInstanceOf(DuplicateCourseException.class)
+                .hasMessageContaining("MONDAY:3(student_004)");
+        assertThat(slotReservationService.holds(message(TEACHER, "student_004", 3, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 선점을 만나면 DB 기준으로 다시 적재해, 확정되지 않은 선점은 버리고 확정된 수업은 지킴")
+    void reloadOnExpiredLease() {
+
+        courseJpaRepository.saveAndFlush(CourseSchedule.create(message(TEACHER, "student_004", 3, 0)));
+
+        ReflectionTestUtils.setField(slotReservationService, "leaseSeconds", 0L);
+        slotReservationService.reserve(message(TEACHER, "student_001", 1, 0));
+        ReflectionTestUtils.setField(slotReservationService, "leaseSeconds", 300L);
+
+        assertThatCode(() -> slotReservationService.reserve(message(TEACHER, "student_002", 1, 0)))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> slotReservationService.reserve(message(TEACHER, "student_005", 3, 0)))
+                .isInstanceOf(DuplicateCourseException.class);
+    }
+
+    @Test
+    @DisplayName("다른 교사로 옮긴 학생의 확정 시간은 이전 교사에서 제거")
+    void forgetMovedStudent() {
+
+        CourseRequestMessage before = message(OTHER_TEACHER, "student_001", 1, 0);
+        slotReservationService.reserve(before);
+        slotReservationService.onScheduleChanged(CourseScheduleChangedEvent.of(before, year, week));
+
+        CourseRequestMessage moved = message(TEACHER, "student_001", 1, 0);
+        slotReservationService.reserve(moved);
+        slotReservationService.onScheduleChanged(CourseScheduleChangedEvent.of(moved, year, week, OTHER_TEACHER));
+
+        assertThat(slotReservationService.holds(before)).isFalse();
+        assertThat(slotReservationService.holds(moved)).isTrue();
+        assertThatCode(() -> slotReservationService.reserve(message(OTHER_TEACHER, "student_002", 1, 0)))
+                .doesNotThrowAnyException();
+    }
+
+    private void deleteKeys() {
+        redisTemplate.delete(List.of(
+                "courseReserve:" + year + ":" + week + ":" + TEACHER,
+                "courseReserve:" + year + ":" + week + ":" + OTHER_TEACHER
+        ));
+    }
+
+    private static CourseRequestMessage message(String teacherId, String studentId, int mondayClassHour, int tuesdayClassHour) {
+        UpsertCourseRequest request = new UpsertCourseRequest();
+        request.setMondayClassHour(mondayClassHour);
+        request.setTuesdayClassHour(tuesdayClassHour);
+        request.setWednesdayClassHour(0);
+        request.setThursdayClassHour(0);
+        request.setFridayClassHour(0);
+
+        return new CourseRequestMessage(new StudentInfo(teacherId, "Mr.Kim", studentId, studentId), request);
+    }
+}
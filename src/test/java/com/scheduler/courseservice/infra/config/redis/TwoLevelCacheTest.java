@@ -0,0 +1,137 @@
+package com.scheduler.courseservice.infra.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private CacheInvalidationBus invalidationBus;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("teacherCourses");
+        invalidationBus = mock(CacheInvalidationBus.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache(
+                "teacherCourses", Caffeine.newBuilder().maximumSize(10).build(),
+                remote, invalidationBus, new SingleFlight(null, meterRegistry)
+        );
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 남아 다음 조회는 Redis 를 거치지 않음")
+    void readThroughToLocal() {
+        remote.put("key", "value");
+
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+
+        remote.evict("key");
+
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("쓰기와 삭제는 다른 인스턴스에 무효화를 전파")
+    void writePublishesInvalidation() {
+        cache.put("key", "value");
+        verify(invalidationBus).publishEvict("teacherCourses", "key");
+
+        cache.evict("key");
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 L1 만 비우고 L2 에서 다시 읽음")
+    void evictLocal() {
+        cache.put("key", "old");
+        remote.put("key", "new");
+
+        cache.evictLocal("key");
+
+        assertThat(cache.get("key", String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("L2 를 읽는 사이 무효화가 오면 읽은 값을 L1 에 남기지 않음")
+    void invalidationDuringRemoteRead() {
+        ConcurrentMapCache racingRemote = new ConcurrentMapCache("teacherCourses") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper old = super.get(key);
+                // 읽은 뒤 다른 인스턴스가 값을 바꾸고 무효화를 보냄
+                super.put(key, "new");
+                cache.evictLocal(String.valueOf(key));
+                return old;
+            }
+        };
+        cache = new TwoLevelCache(
+                "teacherCourses", Caffeine.newBuilder().maximumSize(10).build(),
+                racingRemote, invalidationBus, new SingleFlight(null, meterRegistry)
+        );
+        racingRemote.put("key", "old");
+
+        assertThat(cache.get("key", String.class)).isEqualTo("old");
+        assertThat(cache.get("key", String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로더를 한 번만 실행하고 결과를 공유")
+    void coalesceConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await(5, SECONDS);
+            return "value";
+        }));
+
+        loading.await(5, SECONDS);
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+
+        // follower 가 진행 중인 로더에 합류할 때까지 대기
+        await().atMost(Duration.ofSeconds(5)).until(() -> meterRegistry
+                .counter("course.cache.single.flight", "cache", "teacherCourses", "result", "coalesced").count() >= 1);
+        release.countDown();
+
+        assertThat(leader.get(5, SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(remote.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("패턴 삭제는 L1 을 비우고 다른 인스턴스에도 비우기를 전파")
+    void evictMatchingClearsLocal() {
+        cache.put("teacherCourses:teacherId:t1:year:2025:weekOfYear:1", "value");
+
+        cache.evictMatching("teacherCourses:teacherId:t1:year:*");
+
+        assertThat(cache.get("teacherCourses:teacherId:t1:year:2025:weekOfYear:1")).isNull();
+        verify(invalidationBus).publishClear("teacherCourses");
+    }
+}
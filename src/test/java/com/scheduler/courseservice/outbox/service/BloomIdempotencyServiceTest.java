@@ -0,0 +1,102 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.infra.id.TimeOrderedIdGenerator;
+import com.scheduler.courseservice.outbox.repository.ConsumedMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BloomIdempotencyServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ConsumedMessageRepository consumedMessageRepository;
+    private BloomIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        consumedMessageRepository = mock(ConsumedMessageRepository.class);
+
+        idempotencyService = new BloomIdempotencyService(redisTemplate, consumedMessageRepository);
+        ReflectionTestUtils.setField(idempotencyService, "expectedPerDay", 1000L);
+        ReflectionTestUtils.setField(idempotencyService, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(idempotencyService, "retentionDays", 7);
+        idempotencyService.init();
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 바로 통과, 양성인 키만 DB 로 확인")
+    @SuppressWarnings("unchecked")
+    void exactCheckOnlyOnPositives() {
+
+        long issued = TimeOrderedIdGenerator.minIdAt(System.currentTimeMillis());
+        long fresh = issued + 1;
+        long falsePositive = issued + 2;
+        long duplicate = issued + 3;
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 1L, 1L, 1L));
+        when(consumedMessageRepository.insert(falsePositive)).thenReturn(true);
+        when(consumedMessageRepository.insert(duplicate)).thenReturn(false);
+        when(consumedMessageRepository.insert(fresh)).thenReturn(false);
+        when(consumedMessageRepository.insertAll(Set.of(fresh))).thenReturn(Set.of(fresh));
+
+        List<Boolean> claimed = idempotencyService.claimAll(Arrays.asList(
+                String.valueOf(fresh), null, String.valueOf(falsePositive), String.valueOf(duplicate), String.valueOf(fresh)));
+
+        assertThat(claimed).containsExactly(true, true, true, false, false);
+        verify(consumedMessageRepository).insertAll(Set.of(fresh));
+    }
+
+    @Test
+    @DisplayName("bloom 에 없던 키라도 다른 컨슈머가 먼저 INSERT 했으면 건너뜀")
+    @SuppressWarnings("unchecked")
+    void freshKeyLosesInsertRace() {
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 0L));
+        when(consumedMessageRepository.insertAll(Set.of(1L, 2L))).thenReturn(Set.of(1L));
+
+        assertThat(idempotencyService.claimAll(List.of("1", "2")))
+                .containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("시간순 키는 그대로, 이전 UUID 키는 음수로 저장")
+    void exactKey() {
+
+        long id = TimeOrderedIdGenerator.minIdAt(System.currentTimeMillis()) + 1;
+
+        assertThat(BloomIdempotencyService.exactKey(String.valueOf(id))).isEqualTo(id);
+        assertThat(BloomIdempotencyService.exactKey("0b7c6f1e-3c57-4bde-9d3a-5f4b1f0c2a11")).isNegative();
+        assertThat(TimeOrderedIdGenerator.timestampOf(id)).isCloseTo(System.currentTimeMillis(), within(1000L));
+        assertThat(TimeOrderedIdGenerator.minIdAt(TimeOrderedIdGenerator.timestampOf(id))).isLessThanOrEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 모든 키를 DB 로 확인")
+    @SuppressWarnings("unchecked")
+    void fallbackToExactCheck() {
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(consumedMessageRepository.insert(1L)).thenReturn(true);
+        when(consumedMessageRepository.insert(2L)).thenReturn(false);
+
+        assertThat(idempotencyService.claimAll(List.of("1", "2")))
+                .containsExactly(true, false);
+    }
+}
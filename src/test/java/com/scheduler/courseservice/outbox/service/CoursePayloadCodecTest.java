@@ -0,0 +1,84 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scheduler.courseservice.outbox.domain.PayloadCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.scheduler.courseservice.client.dto.FeignMemberInfo.StudentInfo;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.CourseRequestMessage;
+import static com.scheduler.courseservice.course.dto.CourseInfoRequest.UpsertCourseRequest;
+import static com.scheduler.courseservice.outbox.domain.EventType.CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoursePayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("bin1 으로 인코딩한 페이로드는 JSON 과 같은 메시지로 읽힘")
+    void roundTrip() throws Exception {
+
+        CourseCreatedEventPayload payload = payload("teacher_001", "김선생", "student_001", null, 1, 10, 0, 3, 5);
+
+        CourseRequestMessage decoded = CoursePayloadCodec.decode(CoursePayloadCodec.encode(payload));
+        CourseRequestMessage json = objectMapper.readValue(objectMapper.writeValueAsString(payload), CourseRequestMessage.class);
+
+        assertThat(decoded)
+                .usingRecursiveComparison()
+                .isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("pack 할 수 없는 시간은 JSON 으로 보냄")
+    void fallbackToJson() {
+
+        assertThat(CoursePayloadCodec.encode(payload("teacher_001", "Mr.Kim", "student_001", "Alice", 16, 0, 0, 0, 0))).isNull();
+        assertThat(CoursePayloadCodec.encode(payload("teacher_001", "Mr.Kim", "student_001", "Alice", null, 0, 0, 0, 0))).isNull();
+    }
+
+    @Test
+    @DisplayName("Event-Type 헤더로 codec 을 구분하고, codec 이 없으면 JSON")
+    void negotiateByHeader() {
+
+        assertThat(PayloadCodec.BIN1.header(CREATED)).isEqualTo("CREATED;codec=bin1");
+        assertThat(PayloadCodec.fromHeader("CREATED;codec=bin1")).isEqualTo(PayloadCodec.BIN1);
+        assertThat(PayloadCodec.fromHeader("CREATED")).isEqualTo(PayloadCodec.JSON);
+        assertThat(PayloadCodec.fromHeader(null)).isEqualTo(PayloadCodec.JSON);
+
+        assertThatThrownBy(() -> PayloadCodec.fromHeader("CREATED;codec=bin9"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CoursePayloadCodec.decode("AQ"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("bin1 페이로드는 JSON 의 절반보다 작음")
+    void smallerThanJson() throws Exception {
+
+        CourseCreatedEventPayload payload = payload("teacher_001", "Mr.Kim", "student_001", "Alice_Kim", 1, 2, 3, 4, 5);
+
+        int jsonBytes = objectMapper.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8).length;
+        int binBytes = CoursePayloadCodec.encode(payload).getBytes(StandardCharsets.UTF_8).length;
+
+        assertThat(binBytes).isLessThan(jsonBytes / 2);
+    }
+
+    private static CourseCreatedEventPayload payload(
+            String teacherId, String teacherName, String studentId, String studentName,
+            Integer monday, Integer tuesday, Integer wednesday, Integer thursday, Integer friday
+    ) {
+        UpsertCourseRequest upsertCourseRequest = new UpsertCourseRequest();
+        upsertCourseRequest.setMondayClassHour(monday);
+        upsertCourseRequest.setTuesdayClassHour(tuesday);
+        upsertCourseRequest.setWednesdayClassHour(wednesday);
+        upsertCourseRequest.setThursdayClassHour(thursday);
+        upsertCourseRequest.setFridayClassHour(friday);
+
+        return new CourseCreatedEventPayload(
+                new StudentInfo(teacherId, teacherName, studentId, studentName), upsertCourseRequest);
+    }
+}
@@ -0,0 +1,221 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.outbox.domain.OutBox;
+import com.scheduler.courseservice.outbox.domain.OutBoxEvent;
+import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.scheduler.courseservice.outbox.domain.EventType.CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+class MessageRelayTest {
+
+    private OutBoxClaimService outBoxClaimService;
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outBoxClaimService = mock(OutBoxClaimService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+
+        when(outBoxClaimService.getLeaseMillis()).thenReturn(300_000L);
+    }
+
+    @Test
+    @DisplayName("in-flight 창이 가득 차면 전송하지 않고 lease 를 풀어 폴러에 넘김")
+    void handOffWhenWindowFull() {
+
+        // 첫 전송은 발행 스레드에서 시작되지 않은 채 창을 차지
+        List<Runnable> queued = new ArrayList<>();
+        MessageRelay messageRelay = relay(queued::add);
+
+        messageRelay.publishEvent(OutBoxEvent.of(outBox(1L)));
+        messageRelay.publishEvent(OutBoxEvent.of(outBox(2L)));
+
+        verify(outBoxClaimService).release(List.of(2L));
+        verify(outBoxClaimService, never()).release(List.of(1L));
+        verify(kafkaTemplate, never()).send(any(Message.class));
+    }
+
+    @Test
+    @DisplayName("전송이 실패하면 삭제하지 않고 lease 를 풀며, 창을 돌려받아 다음 전송은 삭제까지 진행")
+    @SuppressWarnings("unchecked")
+    void handOffWhenSendFails() {
+
+        MessageRelay messageRelay = relay(Runnable::run);
+        when(kafkaTemplate.send(any(Message.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        messageRelay.publishEvent(OutBoxEvent.of(outBox(1L)));
+        messageRelay.publishEvent(OutBoxEvent.of(outBox(2L)));
+
+        verify(outBoxClaimService).release(List.of(1L));
+        verify(outBoxClaimService, never()).delete(List.of(1L));
+        verify(outBoxClaimService).delete(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("발행 스레드가 작업을 거절하면 lease 를 풀어 폴러에 넘김")
+    void handOffWhenExecutorRejects() {
+
+        MessageRelay messageRelay = relay(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        messageRelay.publishEvent(OutBoxEvent.of(outBox(1L)));
+
+        verify(outBoxClaimService).release(List.of(1L));
+        verify(kafkaTemplate, never()).send(any(Message.class));
+    }
+
+    @Test
+    @DisplayName("묶음마다 Kafka 트랜잭션 하나로 보내고 보낸 id 를 한 번에 삭제")
+    void publishInBatches() {
+
+        MessageRelay messageRelay = relay(Runnable::run);
+        ReflectionTestUtils.setField(messageRelay, "publishBatchSize", 2);
+        when(outBoxClaimService.claim(500)).thenReturn(List.of(outBox(1L), outBox(2L), outBox(3L)));
+        stubTransactions(true, true);
+
+        assertThat(messageRelay.publishPendingEvent()).isEqualTo(3);
+
+        verify(kafkaTemplate, times(2)).executeInTransaction(any());
+        verify(outBoxClaimService).delete(List.of(1L, 2L));
+        verify(outBoxClaimService).delete(List.of(3L));
+        verify(outBoxClaimService, never()).release(anyCollection());
+    }
+
+    @Test
+    @DisplayName("묶음 전송이 실패하면 실패한 묶음부터 lease 를 풀고, 보낸 묶음만 발행 건수로 셈")
+    void releaseFailedBatch() {
+
+        MessageRelay messageRelay = relay(Runnable::run);
+        ReflectionTestUtils.setField(messageRelay, "publishBatchSize", 2);
+        when(outBoxClaimService.claim(500)).thenReturn(List.of(outBox(1L), outBox(2L), outBox(3L), outBox(4L), outBox(5L)));
+        stubTransactions(true, false);
+
+        assertThat(messageRelay.publishPendingEvent()).isEqualTo(2);
+
+        verify(outBoxClaimService).delete(List.of(1L, 2L));
+        verify(outBoxClaimService).release(List.of(3L, 4L, 5L));
+        verify(outBoxClaimService, times(1)).delete(anyCollection());
+        // 실패 후에는 남은 묶음을 보내지 않음
+        verify(kafkaTemplate, times(2)).executeInTransaction(any());
+    }
+
+    @Test
+    @DisplayName("빈 조회가 이어지면 대기 시간을 두 배씩 늘려 max 에서 멈추고, 발행하면 min 으로 돌아감")
+    void backOffWhileEmpty() {
+
+        MessageRelay messageRelay = relay(Runnable::run);
+        ReflectionTestUtils.setField(messageRelay, "minIdleMillis", 100L);
+        ReflectionTestUtils.setField(messageRelay, "maxIdleMillis", 800L);
+
+        assertThat(messageRelay.nextIdleMillis(100, 0)).isEqualTo(200);
+        assertThat(messageRelay.nextIdleMillis(400, 0)).isEqualTo(800);
+        assertThat(messageRelay.nextIdleMillis(800, 0)).isEqualTo(800);
+        assertThat(messageRelay.nextIdleMillis(800, 3)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("폴링 루프는 가득 찬 조회가 이어지는 동안 쉬지 않고 비우고, 넘겨받은 행이 있으면 대기 중에도 바로 깨어남")
+    void drainAndWakeUp() {
+
+        ExecutorService relayThread = Executors.newSingleThreadExecutor();
+        MessageRelay messageRelay = relay(task -> {
+            throw new RejectedExecutionException("full");
+        }, relayThread);
+        ReflectionTestUtils.setField(messageRelay, "relayEnabled", true);
+        ReflectionTestUtils.setField(messageRelay, "claimBatchSize", 2);
+        // 깨우지 않으면 테스트 동안 다시 조회하지 않음
+        ReflectionTestUtils.setField(messageRelay, "minIdleMillis", 60_000L);
+        ReflectionTestUtils.setField(messageRelay, "maxIdleMillis", 60_000L);
+
+        when(outBoxClaimService.claim(2))
+                .thenReturn(List.of(outBox(1L), outBox(2L)), List.of(outBox(3L), outBox(4L)), List.of(outBox(5L)), List.of());
+        stubTransactions(true, true, true);
+
+        try {
+            messageRelay.startRelay();
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                verify(outBoxClaimService, times(3)).claim(2);
+                verify(outBoxClaimService).delete(List.of(5L));
+            });
+
+            // 커밋 직후 발행을 넘겨받으면 60초 대기를 끊고 다시 조회
+            messageRelay.publishEvent(OutBoxEvent.of(outBox(6L)));
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    verify(outBoxClaimService, times(4)).claim(2));
+        } finally {
+            messageRelay.stopRelay();
+            relayThread.shutdownNow();
+        }
+    }
+
+    // 트랜잭션마다 성공하면 콜백을 실행, 실패하면 Kafka 예외
+    @SuppressWarnings("unchecked")
+    private void stubTransactions(boolean... succeeds) {
+        KafkaOperations<String, String> operations = mock(KafkaOperations.class);
+        when(operations.send(any(Message.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        OngoingStubbing<Object> stubbing = when(kafkaTemplate.executeInTransaction(any()));
+        for (boolean succeed : succeeds) {
+            stubbing = succeed
+                    ? stubbing.thenAnswer(invocation -> invocation
+                            .<KafkaOperations.OperationsCallback<String, String, Object>>getArgument(0)
+                            .doInOperations(operations))
+                    : stubbing.thenThrow(new KafkaException("down"));
+        }
+    }
+
+    private MessageRelay relay(Executor publishEventExecutor) {
+        return relay(publishEventExecutor, Runnable::run);
+    }
+
+    private MessageRelay relay(Executor publishEventExecutor, Executor relayExecutor) {
+        MessageRelay messageRelay = new MessageRelay(
+                mock(OutBoxJpaRepository.class), outBoxClaimService, kafkaTemplate,
+                publishEventExecutor, relayExecutor, new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(messageRelay, "courseApplyTopic", "course_schedule_logs");
+        ReflectionTestUtils.setField(messageRelay, "claimBatchSize", 500);
+        ReflectionTestUtils.setField(messageRelay, "batchMode", true);
+        ReflectionTestUtils.setField(messageRelay, "publishBatchSize", 100);
+        ReflectionTestUtils.setField(messageRelay, "maxInFlight", 1);
+        ReflectionTestUtils.setField(messageRelay, "acquireTimeoutMillis", 0L);
+        messageRelay.init();
+        return messageRelay;
+    }
+
+    private static OutBox outBox(long id) {
+        OutBox outBox = OutBox.create(CREATED, "{}", "teacher_001");
+        ReflectionTestUtils.setField(outBox, "id", id);
+        return outBox;
+    }
+}
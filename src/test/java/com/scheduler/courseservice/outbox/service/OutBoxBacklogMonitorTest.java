@@ -0,0 +1,68 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.infra.id.TimeOrderedIdGenerator;
+import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OutBoxBacklogMonitorTest {
+
+    private static final long MIN_ISSUED_ID = TimeOrderedIdGenerator.MIN_ISSUED_ID;
+
+    private OutBoxJpaRepository outBoxJpaRepository;
+    private OutBoxBacklogMonitor outBoxBacklogMonitor;
+
+    @BeforeEach
+    void setUp() {
+        outBoxJpaRepository = mock(OutBoxJpaRepository.class);
+        outBoxBacklogMonitor = new OutBoxBacklogMonitor(outBoxJpaRepository, new SimpleMeterRegistry());
+
+        when(outBoxJpaRepository.findMinCreatedAtBefore(MIN_ISSUED_ID)).thenReturn(Optional.empty());
+        when(outBoxJpaRepository.findMinIdFrom(MIN_ISSUED_ID)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("IDENTITY 로 쌓인 이전 행은 id 가 아닌 생성 시각으로 나이를 셈")
+    void legacyRowUsesCreatedAt() {
+
+        when(outBoxJpaRepository.findMinCreatedAtBefore(MIN_ISSUED_ID))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+
+        outBoxBacklogMonitor.refreshOldestAge();
+
+        assertThat(outBoxBacklogMonitor.getOldestAgeMillis())
+                .isBetween(Duration.ofMinutes(5).toMillis(), Duration.ofMinutes(6).toMillis());
+        verify(outBoxJpaRepository, never()).findMinIdFrom(anyLong());
+    }
+
+    @Test
+    @DisplayName("이전 행이 없으면 발급된 id 의 시각으로 나이를 셈")
+    void timeOrderedRowUsesId() {
+
+        when(outBoxJpaRepository.findMinIdFrom(MIN_ISSUED_ID))
+                .thenReturn(Optional.of(TimeOrderedIdGenerator.minIdAt(System.currentTimeMillis() - Duration.ofSeconds(30).toMillis())));
+
+        outBoxBacklogMonitor.refreshOldestAge();
+
+        assertThat(outBoxBacklogMonitor.getOldestAgeMillis())
+                .isBetween(Duration.ofSeconds(30).toMillis(), Duration.ofSeconds(31).toMillis());
+    }
+
+    @Test
+    @DisplayName("outbox 가 비면 나이는 0")
+    void emptyOutBox() {
+
+        outBoxBacklogMonitor.refreshOldestAge();
+
+        assertThat(outBoxBacklogMonitor.getOldestAgeMillis()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.scheduler.courseservice.outbox.service;
+
+import com.scheduler.courseservice.outbox.domain.OutBox;
+import com.scheduler.courseservice.outbox.repository.OutBoxJpaRepository;
+import com.scheduler.courseservice.testSet.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.scheduler.courseservice.outbox.domain.EventType.CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class OutBoxClaimServiceTest {
+
+    @Autowired
+    private OutBoxJpaRepository outBoxJpaRepository;
+
+    @Autowired
+    private OutBoxClaimService outBoxClaimService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("lease 를 잡은 행은 다시 가져가지 않고 limit 만큼씩 나눠서 가져감")
+    void claimInChunks() {
+
+        outBoxJpaRepository.saveAllAndFlush(IntStream.range(0, 3)
+                .mapToObj(i -> OutBox.create(CREATED, "{}", "teacher_001"))
+                .toList());
+
+        List<OutBox> first = outBoxClaimService.claim(2);
+        List<OutBox> second = outBoxClaimService.claim(2);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(outBoxClaimService.claim(2)).isEmpty();
+
+        assertThat(first).extracting(OutBox::getId)
+                .doesNotContainAnyElementsOf(second.stream().map(OutBox::getId).toList());
+    }
+
+    @Test
+    @DisplayName("발행한 행은 id 목록으로 한 번에 삭제하고 나머지는 남김")
+    void deleteByIds() {
+
+        List<Long> ids = outBoxJpaRepository.saveAllAndFlush(IntStream.range(0, 3)
+                        .mapToObj(i -> OutBox.create(CREATED, "{}", "teacher_001"))
+                        .toList())
+                .stream().map(OutBox::getId).toList();
+
+        assertThat(outBoxJpaRepository.deleteAllByIdIn(ids.subList(0, 2))).isEqualTo(2);
+
+        assertThat(outBoxJpaRepository.findAllById(ids))
+                .extracting(OutBox::getId)
+                .containsExactly(ids.get(2));
+    }
+
+    @Test
+    @DisplayName("lease 도입 전에 쌓인 status 가 없는 행도 가져감")
+    void claimLegacyRows() {
+
+        OutBox outBox = outBoxJpaRepository.saveAndFlush(OutBox.create(CREATED, "{}", "teacher_001"));
+        jdbcTemplate.update("UPDATE out_box SET status = NULL, lease_until = NULL WHERE id = ?", outBox.getId());
+
+        assertThat(outBoxClaimService.claim(10))
+                .extracting(OutBox::getId)
+                .containsExactly(outBox.getId());
+    }
+}
@@ -1,5 +1,7 @@
 INSERT INTO teacher (teacher_id, name) VALUES
-    ('teacher_001', 'Mr. Kim');
+    ('teacher_001', 'Mr. Kim'),
+    ('teacher_002', 'Ms. Lee'),
+    ('teacher_003', 'Mr. Park');
 
 INSERT INTO student (student_id, student_name, student_username) VALUES
     ('student_001', 'Alice Kim', 'student_username_01'),
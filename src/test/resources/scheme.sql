@@ -36,19 +36,31 @@ CREATE TABLE IF NOT EXISTS course_schedule
     last_modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     version INT DEFAULT 0,
     FOREIGN KEY (teacher_id) REFERENCES teacher(teacher_id),
-    FOREIGN KEY (student_id) REFERENCES student(student_id)
+    FOREIGN KEY (student_id) REFERENCES student(student_id),
+    CONSTRAINT unique_student_year_week UNIQUE (student_id, course_year, week_of_year)
 
 );
 
+CREATE INDEX idx_teacher_year_week ON course_schedule (teacher_id, course_year, week_of_year);
+
 
 CREATE TABLE IF NOT EXISTS out_box
 (
     id BIGINT NOT NULL AUTO_INCREMENT,
-    idempotency VARCHAR(255),
+    idempotency BIGINT UNIQUE,
     event_type VARCHAR(255),
+    codec VARCHAR(10),
     payload TEXT,
+    partition_key VARCHAR(255),
+    status VARCHAR(20),
+    lease_until TIMESTAMP,
     PRIMARY KEY (id),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     last_modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
+CREATE TABLE IF NOT EXISTS consumed_message
+(
+    idempotency BIGINT NOT NULL,
+    PRIMARY KEY (idempotency)
+);